@@ -0,0 +1,132 @@
+package graph.algorithm;
+
+import com.google.common.graph.MutableGraph;
+import org.jetbrains.annotations.NotNull;
+
+/**
+ * Класс представляет граф в виде плотной битовой матрицы смежности:
+ * каждая строка матрицы упакована в массив long, что позволяет
+ * считать общих соседей двух вершин через AND и Long.bitCount*/
+public class AdjacencyBitMatrix {
+
+    private final int size;
+    private final int words;
+    private final long[] rows;
+    private final String[] labels;
+
+    private AdjacencyBitMatrix(int size, String[] labels) {
+        this.size = size;
+        this.words = (size + 63) >>> 6;
+        this.rows = new long[size * words];
+        this.labels = labels;
+    }
+
+    /**
+     * Метод строит битовую матрицу смежности по GUAVA-графу
+     * @param myGraph GUAVA-граф
+     * @return Возвращает битовую матрицу смежности*/
+    public static AdjacencyBitMatrix of(@NotNull MutableGraph<String> myGraph) {
+        return of(CsrGraph.of(myGraph));
+    }
+
+    /**
+     * Метод строит битовую матрицу смежности по CSR-графу
+     * @param graph CSR-граф
+     * @return Возвращает битовую матрицу смежности*/
+    public static AdjacencyBitMatrix of(@NotNull CsrGraph graph) {
+        int n = graph.size();
+        String[] labels = new String[n];
+        for (int v = 0; v < n; v++) {
+            labels[v] = graph.label(v);
+        }
+
+        AdjacencyBitMatrix matrix = new AdjacencyBitMatrix(n, labels);
+        for (int v = 0; v < n; v++) {
+            for (int i = graph.start(v); i < graph.end(v); i++) {
+                matrix.set(v, graph.target(i));
+            }
+        }
+        return matrix;
+    }
+
+    private void set(int i, int j) {
+        rows[i * words + (j >>> 6)] |= 1L << j;
+    }
+
+    /**
+     * Метод возвращает количество вершин графа
+     * @return Возвращает количество вершин*/
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Метод возвращает количество слов long в одной строке матрицы
+     * @return Возвращает длину строки в словах*/
+    int words() {
+        return words;
+    }
+
+    /**
+     * Метод возвращает имя вершины по её индексу
+     * @param i индекс вершины
+     * @return Возвращает имя вершины*/
+    public String label(int i) {
+        return labels[i];
+    }
+
+    /**
+     * Метод проверяет смежность двух вершин
+     * @param i индекс первой вершины
+     * @param j индекс второй вершины
+     * @return Возвращает true, если вершины смежны, если иначе — false*/
+    public boolean isAdjacent(int i, int j) {
+        return (rows[i * words + (j >>> 6)] & (1L << j)) != 0;
+    }
+
+    /**
+     * Метод вычисляет степень вершины
+     * @param i индекс вершины
+     * @return Возвращает степень вершины*/
+    public int degree(int i) {
+        int count = 0;
+        int base = i * words;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(rows[base + w]);
+        }
+        return count;
+    }
+
+    /**
+     * Метод вычисляет количество общих соседей двух вершин
+     * @param i индекс первой вершины
+     * @param j индекс второй вершины
+     * @return Возвращает количество общих соседей*/
+    public int commonNeighbors(int i, int j) {
+        int count = 0;
+        int a = i * words;
+        int b = j * words;
+        for (int w = 0; w < words; w++) {
+            count += Long.bitCount(rows[a + w] & rows[b + w]);
+        }
+        return count;
+    }
+
+    /**
+     * Метод вычисляет количество общих соседей двух вершин среди вершин,
+     * попадающих в слова строк с wordFrom по wordTo (не включая)
+     * @param i индекс первой вершины
+     * @param j индекс второй вершины
+     * @param wordFrom первое слово строки
+     * @param wordTo слово строки, следующее за последним
+     * @return Возвращает количество общих соседей в диапазоне слов*/
+    int commonNeighbors(int i, int j, int wordFrom, int wordTo) {
+        int count = 0;
+        int a = i * words;
+        int b = j * words;
+        for (int w = wordFrom; w < wordTo; w++) {
+            count += Long.bitCount(rows[a + w] & rows[b + w]);
+        }
+        return count;
+    }
+}
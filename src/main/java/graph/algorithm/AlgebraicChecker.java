@@ -0,0 +1,143 @@
+package graph.algorithm;
+
+import com.google.common.graph.MutableGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Arrays;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.stream.IntStream;
+
+/**
+ * Класс проверяет сильную регулярность графа алгебраически:
+ * граф сильно регулярен тогда и только тогда, когда
+ * A^2 = kI + lambda*A + mu*(J - I - A), где A — матрица смежности.
+ * Элемент A^2 в строке i и столбце j равен числу общих соседей вершин i и j,
+ * то есть числу единиц в AND упакованных в биты строк. Произведение
+ * над главной диагональю вычисляется плитками BLOCK x BLOCK, а строки перемножаются
+ * отрезками по WORD_BLOCK слов, чтобы отрезки строк обеих вершин плитки оставались в кэше.
+ * Каждый элемент сверяется с тождеством сразу после добавления последнего отрезка,
+ * поэтому в памяти хранится только одна плитка частичных сумм на задачу.
+ * Проверка вызывается явно и не заменяет {@link ParallelChecker} в {@link Checker}:
+ * на плотных и разреженных графах она работает так же быстро*/
+public class AlgebraicChecker {
+
+    /**
+     * Количество строк (и столбцов) в одной плитке произведения*/
+    private static final int BLOCK = 64;
+
+    /**
+     * Количество слов long в одном отрезке строки*/
+    private static final int WORD_BLOCK = 64;
+
+    /**
+     * Метод вычисляет плитки произведения A^2 над главной диагональю в блоке строк
+     * и сверяет каждый элемент с тождеством сильно регулярного графа
+     * @param matrix Битовая матрица смежности
+     * @param rowBlock номер блока строк
+     * @param reference эталонные значения {k, lambda, mu}
+     * @param violation найденный контрпример, общий для всех блоков
+     * @return Возвращает true, если блок удовлетворяет тождеству, если иначе — false*/
+    private static boolean checkRowBlock(AdjacencyBitMatrix matrix, int rowBlock, int[] reference,
+                                         AtomicReference<Checker.Violation> violation) {
+        int n = matrix.size();
+        int words = matrix.words();
+        int rowFrom = rowBlock * BLOCK;
+        int rowTo = Math.min(n, rowFrom + BLOCK);
+        int[] tile = new int[BLOCK * BLOCK];
+
+        for (int columnFrom = rowFrom; columnFrom < n; columnFrom += BLOCK) {
+            if (violation.get() != null) {
+                return false;
+            }
+            int columnTo = Math.min(n, columnFrom + BLOCK);
+            Arrays.fill(tile, 0);
+            for (int wordFrom = 0; wordFrom < words; wordFrom += WORD_BLOCK) {
+                int wordTo = Math.min(words, wordFrom + WORD_BLOCK);
+                boolean last = wordTo == words;
+                for (int i = rowFrom; i < rowTo; i++) {
+                    int base = (i - rowFrom) * BLOCK - columnFrom;
+                    for (int j = Math.max(i, columnFrom); j < columnTo; j++) {
+                        int value = tile[base + j] + matrix.commonNeighbors(i, j, wordFrom, wordTo);
+                        if (!last) {
+                            tile[base + j] = value;
+                        } else if (!check(matrix, i, j, value, reference, violation)) {
+                            return false;
+                        }
+                    }
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Метод сверяет элемент A^2 с тождеством: на диагонали должна стоять степень k,
+     * вне диагонали — lambda для смежных вершин и mu для несмежных
+     * @param matrix Битовая матрица смежности
+     * @param i строка элемента
+     * @param j столбец элемента
+     * @param value значение элемента
+     * @param reference эталонные значения {k, lambda, mu}
+     * @param violation найденный контрпример, общий для всех блоков
+     * @return Возвращает true, если элемент удовлетворяет тождеству, если иначе — false*/
+    private static boolean check(AdjacencyBitMatrix matrix, int i, int j, int value, int[] reference,
+                                 AtomicReference<Checker.Violation> violation) {
+        if (i == j) {
+            if (value != reference[0]) {
+                violation.compareAndSet(null, new Checker.Violation(Checker.Violation.Kind.DEGREE,
+                        matrix.label(i), matrix.label(i), false, reference[0], value));
+                return false;
+            }
+            return true;
+        }
+        boolean adjacent = matrix.isAdjacent(i, j);
+        int expected = adjacent ? reference[1] : reference[2];
+        if (value != expected) {
+            violation.compareAndSet(null, new Checker.Violation(
+                    adjacent ? Checker.Violation.Kind.LAMBDA : Checker.Violation.Kind.MU,
+                    matrix.label(i), matrix.label(j), adjacent, expected, value));
+            return false;
+        }
+        return true;
+    }
+
+    /**
+     * Метод проверяет тождество A^2 = kI + lambda*A + mu*(J - I - A),
+     * параллельно обрабатывая блоки строк произведения
+     * @param matrix Битовая матрица смежности проверяемого графа
+     * @return Возвращает параметры графа вместе со статусом проверки*/
+    public static SrgParameters getParameters(@NotNull AdjacencyBitMatrix matrix) {
+        int n = matrix.size();
+        if (n == 0) {
+            return Checker.classify(0, 0, -1, -1);
+        }
+
+        int[] reference = ParallelChecker.getReference(matrix);
+        AtomicReference<Checker.Violation> violation = new AtomicReference<>();
+        int blocks = (n + BLOCK - 1) / BLOCK;
+
+        boolean failed = IntStream.range(0, blocks)
+                .parallel()
+                .anyMatch(block -> !checkRowBlock(matrix, block, reference, violation));
+
+        if (failed && violation.get() != null) {
+            return new SrgParameters(SrgParameters.Status.NOT_STRONGLY_REGULAR, n, reference[0],
+                    reference[1], reference[2], violation.get());
+        }
+        return Checker.classify(n, reference[0], reference[1], reference[2]);
+    }
+    /**
+     * Метод проверяет тождество сильно регулярного графа для GUAVA-графа
+     * @param myGraph Проверяемый граф
+     * @return Возвращает параметры графа вместе со статусом проверки*/
+    public static SrgParameters getParameters(@NotNull MutableGraph<String> myGraph) {
+        return getParameters(AdjacencyBitMatrix.of(myGraph));
+    }
+    /**
+     * Метод проверяет тождество сильно регулярного графа для CSR-графа
+     * @param graph Проверяемый граф
+     * @return Возвращает параметры графа вместе со статусом проверки*/
+    public static SrgParameters getParameters(@NotNull CsrGraph graph) {
+        return getParameters(AdjacencyBitMatrix.of(graph));
+    }
+}
@@ -0,0 +1,305 @@
+package graph.algorithm;
+
+import com.google.common.graph.MutableGraph;
+import com.google.common.hash.HashCode;
+import com.google.common.hash.Hasher;
+import com.google.common.hash.Hashing;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Класс канонической формы графа: канонического порядка вершин и
+ * 128-битного хэша, одинакового для всех изоморфных графов.
+ * Канонический лист дерева поиска с индивидуализацией выбирается как
+ * максимальный по последовательности инвариантов пути и сертификату
+ * (отсортированному списку рёбер в новой нумерации). Ветви с меньшим
+ * инвариантом отсекаются, а найденные автоморфизмы исключают
+ * повторный обход эквивалентных вершин*/
+public class CanonicalForm {
+
+    private static final GraphViewCache<CanonicalForm> cache = new GraphViewCache<>(graph ->
+            of(CsrGraph.of(graph)));
+
+    private final String[] ordering;
+    private final HashCode hash;
+
+    private CanonicalForm(String[] ordering, HashCode hash) {
+        this.ordering = ordering;
+        this.hash = hash;
+    }
+
+    /**
+     * Метод возвращает имена вершин в каноническом порядке
+     * @return Возвращает канонический порядок вершин*/
+    public List<String> getOrdering() {
+        return List.of(ordering);
+    }
+
+    /**
+     * Метод возвращает 128-битный канонический хэш графа
+     * @return Возвращает канонический хэш*/
+    public HashCode getHash() {
+        return hash;
+    }
+
+    /**
+     * Метод вычисляет каноническую форму GUAVA-графа
+     * @param myGraph GUAVA-граф
+     * @return Возвращает каноническую форму*/
+    public static CanonicalForm of(@NotNull MutableGraph<String> myGraph) {
+        return of(CsrGraph.of(myGraph));
+    }
+
+    /**
+     * Метод возвращает каноническую форму JGraph-графа. Результат запоминается
+     * и пересчитывается только после изменения структуры графа
+     * @param graph JGraph-граф
+     * @return Возвращает каноническую форму*/
+    public static CanonicalForm of(@NotNull mxGraph graph) {
+        return cache.get(graph);
+    }
+
+    /**
+     * Метод вычисляет каноническую форму CSR-графа
+     * @param graph CSR-граф
+     * @return Возвращает каноническую форму*/
+    public static CanonicalForm of(@NotNull CsrGraph graph) {
+        int n = graph.size();
+        Search search = new Search(graph);
+        if (n > 0) {
+            int[] colors = new int[n];
+            int count = PartitionRefiner.refine(graph, colors);
+            search.visit(colors, count, new int[0], new long[0]);
+        }
+
+        String[] ordering = new String[n];
+        for (int v = 0; v < n; v++) {
+            ordering[search.bestColors[v]] = graph.label(v);
+        }
+
+        Hasher hasher = Hashing.murmur3_128().newHasher();
+        hasher.putInt(n);
+        for (int value : search.bestCertificate) {
+            hasher.putInt(value);
+        }
+        return new CanonicalForm(ordering, hasher.hash());
+    }
+
+    /**
+     * Класс состояния поиска канонического листа*/
+    private static class Search {
+        private final CsrGraph graph;
+        private final List<int[]> automorphisms = new ArrayList<>();
+        private long[] bestPath = null;
+        private int[] bestCertificate = new int[0];
+        private int[] bestColors = new int[0];
+        private int[] bestFixed = new int[0];
+        private int backjump = -1;
+
+        private Search(CsrGraph graph) {
+            this.graph = graph;
+        }
+
+        /**
+         * Метод обходит узел дерева поиска
+         * @param colors устойчивая раскраска узла
+         * @param count количество цветов
+         * @param fixed вершины, индивидуализированные на пути к узлу
+         * @param path инварианты узлов на пути к узлу (включая предков)*/
+        private void visit(int[] colors, int count, int[] fixed, long[] path) {
+            int n = colors.length;
+            long[] current = Arrays.copyOf(path, path.length + 1);
+            current[path.length] = invariant(colors, count);
+
+            if (bestPath != null) {
+                int length = Math.min(current.length, bestPath.length);
+                int compared = Arrays.compare(current, 0, length, bestPath, 0, length);
+                if (compared < 0) {
+                    return;
+                }
+                if (compared > 0) {
+                    bestPath = null;
+                }
+            }
+
+            if (count == n) {
+                leaf(colors, current, fixed);
+                return;
+            }
+
+            int[] cellSizes = new int[count];
+            for (int color : colors) {
+                cellSizes[color]++;
+            }
+            int target = 0;
+            while (cellSizes[target] == 1) {
+                target++;
+            }
+
+            Orbits orbits = new Orbits(n, fixed);
+            List<Integer> explored = new ArrayList<>();
+            for (int candidate = 0; candidate < n; candidate++) {
+                if (colors[candidate] != target || orbits.isEquivalent(candidate, explored)) {
+                    continue;
+                }
+                explored.add(candidate);
+
+                int[] branch = colors.clone();
+                branch[candidate] = count;
+                int branchCount = PartitionRefiner.refine(graph, branch);
+                int[] branchFixed = Arrays.copyOf(fixed, fixed.length + 1);
+                branchFixed[fixed.length] = candidate;
+                visit(branch, branchCount, branchFixed, current);
+
+                if (backjump >= 0) {
+                    if (backjump < fixed.length) {
+                        return;
+                    }
+                    backjump = -1;
+                }
+            }
+        }
+
+        /**
+         * Метод обрабатывает лист дерева поиска (дискретную раскраску)
+         * @param colors дискретная раскраска — новая нумерация вершин
+         * @param path инварианты узлов на пути к листу
+         * @param fixed вершины, индивидуализированные на пути к листу*/
+        private void leaf(int[] colors, long[] path, int[] fixed) {
+            int[] certificate = certificate(colors);
+            if (bestPath == null) {
+                setBest(colors, path, fixed, certificate);
+                return;
+            }
+            int compared = Arrays.compare(path, bestPath);
+            if (compared == 0) {
+                compared = Arrays.compare(certificate, bestCertificate);
+            }
+            if (compared > 0) {
+                setBest(colors, path, fixed, certificate);
+            } else if (compared == 0) {
+                int n = colors.length;
+                int[] byPosition = new int[n];
+                for (int v = 0; v < n; v++) {
+                    byPosition[bestColors[v]] = v;
+                }
+                int[] automorphism = new int[n];
+                for (int v = 0; v < n; v++) {
+                    automorphism[v] = byPosition[colors[v]];
+                }
+                automorphisms.add(automorphism);
+                backjump = Arrays.mismatch(fixed, bestFixed);
+            }
+        }
+
+        private void setBest(int[] colors, long[] path, int[] fixed, int[] certificate) {
+            bestPath = path;
+            bestFixed = fixed;
+            bestCertificate = certificate;
+            bestColors = colors;
+        }
+
+        /**
+         * Класс орбит вершин относительно найденных автоморфизмов, оставляющих
+         * на месте вершины пути к узлу. Новые автоморфизмы учитываются по мере появления*/
+        private class Orbits {
+            private final int[] parent;
+            private final int[] fixed;
+            private int applied = 0;
+
+            private Orbits(int n, int[] fixed) {
+                this.parent = new int[n];
+                this.fixed = fixed;
+                for (int v = 0; v < n; v++) {
+                    parent[v] = v;
+                }
+            }
+
+            /**
+             * Метод проверяет, лежит ли вершина в одной орбите с уже обойдёнными
+             * @param candidate проверяемая вершина
+             * @param explored уже обойдённые вершины целевой клетки
+             * @return Возвращает true, если обход вершины можно пропустить*/
+            private boolean isEquivalent(int candidate, List<Integer> explored) {
+                if (explored.isEmpty()) {
+                    return false;
+                }
+                for (; applied < automorphisms.size(); applied++) {
+                    int[] automorphism = automorphisms.get(applied);
+                    if (stabilises(automorphism)) {
+                        for (int v = 0; v < parent.length; v++) {
+                            parent[find(v)] = find(automorphism[v]);
+                        }
+                    }
+                }
+                int root = find(candidate);
+                for (int v : explored) {
+                    if (find(v) == root) {
+                        return true;
+                    }
+                }
+                return false;
+            }
+
+            private boolean stabilises(int[] automorphism) {
+                for (int v : fixed) {
+                    if (automorphism[v] != v) {
+                        return false;
+                    }
+                }
+                return true;
+            }
+
+            private int find(int v) {
+                while (parent[v] != v) {
+                    parent[v] = parent[parent[v]];
+                    v = parent[v];
+                }
+                return v;
+            }
+        }
+
+        /**
+         * Метод вычисляет инвариант узла по размерам цветовых клеток
+         * @param colors устойчивая раскраска
+         * @param count количество цветов
+         * @return Возвращает инвариант узла*/
+        private static long invariant(int[] colors, int count) {
+            int[] cellSizes = new int[count];
+            for (int color : colors) {
+                cellSizes[color]++;
+            }
+            long hash = count;
+            for (int size : cellSizes) {
+                hash = hash * 0x9E3779B97F4A7C15L + size;
+            }
+            return hash;
+        }
+
+        /**
+         * Метод строит сертификат листа: отсортированный список рёбер в новой нумерации
+         * @param colors дискретная раскраска — новая нумерация вершин
+         * @return Возвращает сертификат листа*/
+        private int[] certificate(int[] colors) {
+            int n = colors.length;
+            int[] byPosition = new int[n];
+            for (int v = 0; v < n; v++) {
+                byPosition[colors[v]] = v;
+            }
+            int[] certificate = new int[n + 2 * graph.edgeCount()];
+            int position = 0;
+            for (int p = 0; p < n; p++) {
+                int v = byPosition[p];
+                certificate[position++] = graph.degree(v);
+                int rowStart = position;
+                for (int i = graph.start(v); i < graph.end(v); i++) {
+                    certificate[position++] = colors[graph.target(i)];
+                }
+                Arrays.sort(certificate, rowStart, position);
+            }
+            return certificate;
+        }
+    }
+}
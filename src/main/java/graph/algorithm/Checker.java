@@ -1,87 +1,190 @@
 package graph.algorithm;
 
-import com.google.common.graph.EndpointPair;
 import com.google.common.graph.MutableGraph;
 import org.jetbrains.annotations.NotNull;
 
-import java.util.*;
-
 public class Checker {
 
     /**
-     *     ?
-     * @param myGraph  
-     * @return  true,   ? ,    false*/
-    private static boolean isCorrectMU(MutableGraph<String> myGraph) {
-        ArrayList<Integer> numberOfNeighborsOfNonAdjacentVertices = new ArrayList<>();
-        ArrayList<String> nonAdjacentPeaks;
-        boolean isCorrect = true;
-        Integer numCommonNeighbors = 0;
-
-        for (String peak : myGraph.nodes()){
-            nonAdjacentPeaks = new ArrayList<>(myGraph.nodes().stream().toList());
-
-            if (nonAdjacentPeaks.removeAll(myGraph.adjacentNodes(peak))){
-                nonAdjacentPeaks.remove(peak);
-                for (String nonPeak : nonAdjacentPeaks){
-                    for (String adjNonPeak : myGraph.adjacentNodes(nonPeak)){
-                        if (myGraph.adjacentNodes(peak).contains(adjNonPeak)){
-                            numCommonNeighbors++;
-                        }
-                    }
-                    numberOfNeighborsOfNonAdjacentVertices.add(numCommonNeighbors);
-                    numCommonNeighbors = 0;
-                }
-            }
+     * Начиная с этого количества вершин проверка выполняется параллельно*/
+    public static final int PARALLEL_THRESHOLD = 512;
+
+    /**
+     * Класс описывает пару вершин, на которой нарушается
+     * сильная регулярность графа (контрпример)*/
+    public static class Violation {
+
+        public enum Kind {
+            DEGREE,
+            LAMBDA,
+            MU
         }
 
-        for (Integer neighbors : numberOfNeighborsOfNonAdjacentVertices){
-            if (!numberOfNeighborsOfNonAdjacentVertices.get(0).equals(neighbors)){
-                isCorrect = false;
-            }
+        private final Kind kind;
+        private final String peakU;
+        private final String peakV;
+        private final boolean adjacent;
+        private final int expected;
+        private final int actual;
+
+        Violation(Kind kind, String peakU, String peakV, boolean adjacent, int expected, int actual) {
+            this.kind = kind;
+            this.peakU = peakU;
+            this.peakV = peakV;
+            this.adjacent = adjacent;
+            this.expected = expected;
+            this.actual = actual;
         }
 
-        return isCorrect;
+        public Kind getKind() {
+            return kind;
+        }
+
+        public String getPeakU() {
+            return peakU;
+        }
+
+        public String getPeakV() {
+            return peakV;
+        }
+
+        public boolean isAdjacent() {
+            return adjacent;
+        }
+
+        public int getExpected() {
+            return expected;
+        }
+
+        public int getActual() {
+            return actual;
+        }
+
+        @Override
+        public String toString() {
+            if (kind == Kind.DEGREE) {
+                return kind + ": [" + peakU + "] ожидалась степень " + expected + ", найдена " + actual;
+            }
+            return kind + ": [" + peakU + ", " + peakV + "] " + (adjacent ? "смежны" : "не смежны")
+                    + ", ожидалось " + expected + " общих соседей, найдено " + actual;
+        }
     }
+
     /**
-     *     ?
-     * @param myGraph  
-     * @return  true,   ? ,    false*/
-    private static boolean isCorrectLambda(@NotNull MutableGraph<String> myGraph) {
-        ArrayList<Integer> numberOfAdjacentVertexNeighbors = new ArrayList<>();
-        boolean isCorrect = true;
-        Integer numCommonNeighbors = 0;
-
-        for (EndpointPair<String> rib : myGraph.edges()){
-            for (String adjPeak : myGraph.adjacentNodes(rib.nodeU())) {
-                if (myGraph.adjacentNodes(rib.nodeV()).contains(adjPeak)) {
-                    numCommonNeighbors++;
+     * Метод за один проход по матрице смежности проверяет регулярность графа,
+     * постоянство параметров lambda и mu и определяет параметры (n, k, lambda, mu).
+     * Проверка прекращается на первом же нарушении
+     * @param matrix Битовая матрица смежности проверяемого графа
+     * @return Возвращает параметры графа вместе со статусом проверки*/
+    private static SrgParameters getParameters(@NotNull AdjacencyBitMatrix matrix) {
+        int n = matrix.size();
+        int k = n == 0 ? 0 : matrix.degree(0);
+        int expectedLambda = -1;
+        int expectedMU = -1;
+
+        for (int peak = 0; peak < n; peak++) {
+            int degree = matrix.degree(peak);
+            if (degree != k) {
+                return new SrgParameters(SrgParameters.Status.NOT_STRONGLY_REGULAR, n, k, expectedLambda, expectedMU,
+                        new Violation(Violation.Kind.DEGREE, matrix.label(peak), matrix.label(peak), false, k, degree));
+            }
+            for (int other = peak + 1; other < n; other++) {
+                int numCommonNeighbors = matrix.commonNeighbors(peak, other);
+                if (matrix.isAdjacent(peak, other)) {
+                    if (expectedLambda == -1) {
+                        expectedLambda = numCommonNeighbors;
+                    } else if (expectedLambda != numCommonNeighbors) {
+                        return new SrgParameters(SrgParameters.Status.NOT_STRONGLY_REGULAR, n, k, expectedLambda, expectedMU,
+                                new Violation(Violation.Kind.LAMBDA, matrix.label(peak), matrix.label(other),
+                                        true, expectedLambda, numCommonNeighbors));
+                    }
+                } else {
+                    if (expectedMU == -1) {
+                        expectedMU = numCommonNeighbors;
+                    } else if (expectedMU != numCommonNeighbors) {
+                        return new SrgParameters(SrgParameters.Status.NOT_STRONGLY_REGULAR, n, k, expectedLambda, expectedMU,
+                                new Violation(Violation.Kind.MU, matrix.label(peak), matrix.label(other),
+                                        false, expectedMU, numCommonNeighbors));
+                    }
                 }
             }
-            numberOfAdjacentVertexNeighbors.add(numCommonNeighbors);
-            numCommonNeighbors = 0;
         }
 
-        for (Integer neighbors : numberOfAdjacentVertexNeighbors){
-            if (!numberOfAdjacentVertexNeighbors.get(0).equals(neighbors)){
-                isCorrect = false;
-            }
+        return classify(n, k, expectedLambda, expectedMU);
+    }
+    /**
+     * Метод определяет статус графа, для которого не найдено ни одного контрпримера
+     * @param n количество вершин
+     * @param k степень вершин
+     * @param lambda общее число соседей смежных вершин
+     * @param mu общее число соседей несмежных вершин
+     * @return Возвращает параметры графа со статусом*/
+    static SrgParameters classify(int n, int k, int lambda, int mu) {
+        SrgParameters.Status status;
+        if (k == 0) {
+            status = SrgParameters.Status.EMPTY;
+        } else if (k == n - 1) {
+            status = SrgParameters.Status.COMPLETE;
+        } else if (mu == 0) {
+            status = SrgParameters.Status.DISCONNECTED;
+        } else {
+            status = SrgParameters.Status.STRONGLY_REGULAR;
         }
-
-        return isCorrect;
+        return new SrgParameters(status, n, k, lambda, mu, null);
     }
     /**
-     *       myGraph  
-     * @param myGraph  
-     * @return  true,   ,    false*/
-    public static boolean isStronglyRegularGraph(MutableGraph<String> myGraph){
-        boolean isCorrect = false;
+     * Метод вычисляет параметры (n, k, lambda, mu) графа myGraph и статус его проверки.
+     * Перед точной проверкой граф проходит предварительный фильтр допустимости параметров
+     * @param myGraph Проверяемый граф
+     * @return Возвращает параметры графа вместе со статусом проверки*/
+    public static SrgParameters getParameters(@NotNull MutableGraph<String> myGraph) {
+        return getParameters(CsrGraph.of(myGraph));
+    }
+    /**
+     * Метод вычисляет параметры (n, k, lambda, mu) CSR-графа и статус его проверки
+     * @param graph Проверяемый граф
+     * @return Возвращает параметры графа вместе со статусом проверки*/
+    public static SrgParameters getParameters(@NotNull CsrGraph graph) {
+        AdjacencyBitMatrix matrix = AdjacencyBitMatrix.of(graph);
 
-        if (isCorrectMU(myGraph) && isCorrectLambda(myGraph)){
-            isCorrect = true;
+        SrgParameters rejected = FeasibilityFilter.DEFAULT.reject(matrix);
+        if (rejected != null) {
+            return rejected;
         }
-
-        return isCorrect;
+        return getExactParameters(matrix);
+    }
+    /**
+     * Метод выполняет точную проверку без предварительного фильтра,
+     * выбирая последовательный или параллельный вариант по размеру графа
+     * @param matrix Битовая матрица смежности проверяемого графа
+     * @return Возвращает параметры графа вместе со статусом проверки*/
+    private static SrgParameters getExactParameters(@NotNull AdjacencyBitMatrix matrix) {
+        if (matrix.size() >= PARALLEL_THRESHOLD) {
+            return ParallelChecker.getParameters(matrix);
+        }
+        return getParameters(matrix);
+    }
+    /**
+     * Метод проверяет граф myGraph и возвращает контрпример сильной регулярности
+     * @param myGraph Проверяемый граф
+     * @return Возвращает первую вершину с неверной степенью или первую пару вершин,
+     * нарушающую параметр lambda или mu, или null, если граф сильно регулярен*/
+    public static Violation findViolation(@NotNull MutableGraph<String> myGraph) {
+        return findViolation(CsrGraph.of(myGraph));
+    }
+    /**
+     * Метод проверяет CSR-граф и возвращает контрпример сильной регулярности
+     * @param graph Проверяемый граф
+     * @return Возвращает контрпример или null, если граф сильно регулярен*/
+    public static Violation findViolation(@NotNull CsrGraph graph) {
+        return getExactParameters(AdjacencyBitMatrix.of(graph)).getViolation();
+    }
+    /**
+     * Метод проверяет являться ли переданный граф myGraph сильно регулярным
+     * @param myGraph Проверяемый граф
+     * @return Возвращает true, если параметр истина, если иначе — false*/
+    public static boolean isStronglyRegularGraph(MutableGraph<String> myGraph){
+        return getParameters(myGraph).isStronglyRegular();
     }
 
-}
\ No newline at end of file
+}
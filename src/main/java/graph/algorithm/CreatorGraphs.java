@@ -1,14 +1,14 @@
 package graph.algorithm;
 
-import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.MutableGraph;
 import com.mxgraph.model.mxCell;
 import com.mxgraph.util.mxConstants;
 import com.mxgraph.view.mxGraph;
+import com.mxgraph.view.mxStylesheet;
 import org.jetbrains.annotations.NotNull;
-import org.jgrapht.ext.JGraphXAdapter;
-import org.jgrapht.graph.guava.MutableGraphAdapter;
+import org.jgrapht.nio.dot.DOTEventDrivenImporter;
 
+import java.io.*;
 import java.util.*;
 import java.util.List;
 import java.util.logging.Logger;
@@ -19,15 +19,26 @@ public class CreatorGraphs {
         FROM_CONTIGUITY_MATRIX,
         FROM_INCIDENCE_MATRIX,
         FROM_GRAPHICAL_VIEW,
-        FROM_MFI
+        FROM_MFI,
+        FROM_BIT_MATRIX,
+        FROM_INCIDENCE_STREAM,
+        FROM_DOT
     }
 
+    public static final String VERTEX_STYLE = "graphVertex";
+    public static final String EDGE_STYLE = "graphEdge";
+
     private static final Logger logger = Logger.getLogger(CreatorGraphs.class.getName());
     private final ArrayList<ArrayList<Integer>> Matrix;
     private final List<String> GraphVertices;
     private final mxGraph Graph;
-    private final Integer[] G;
-    private final Integer[] P;
+    private final int[] G;
+    private final int[] P;
+    private final long[] BitMatrix;
+    private final int BitMatrixSize;
+    private final Reader Incidence;
+    private final Reader Dot;
+    private final List<String> MalformedEdges = new ArrayList<>();
 
     private CreatorGraphs(Builder builder) {
         Matrix = builder.Matrix;
@@ -35,13 +46,33 @@ public class CreatorGraphs {
         Graph = builder.Graph;
         G = builder.G;
         P = builder.P;
+        BitMatrix = builder.BitMatrix;
+        BitMatrixSize = builder.BitMatrixSize;
+        Incidence = builder.Incidence;
+        Dot = builder.Dot;
+    }
+
+    /**
+     * Метод возвращает описания некорректных рёбер, пропущенных
+     * при последнем создании графа из матрицы или потока инцидентности
+     * @return Возвращает список описаний некорректных рёбер*/
+    public List<String> getMalformedEdges() {
+        return Collections.unmodifiableList(MalformedEdges);
     }
 
     /**
-     *   GUAVA-   
-     * @param mySource   GUAVA-
-     * @return  GUAVA-*/
+     * Метод создает GUAVA-граф из указанного источника
+     * @param mySource источник создания GUAVA-графа
+     * @return Возвращает GUAVA-граф*/
     public MutableGraph<String> getGraphGUAVA(@NotNull Source mySource){
+        CsrGraph graph = getGraphCSR(mySource);
+        return graph != null ? graph.toGuava() : null;
+    }
+    /**
+     * Метод создает CSR-граф из указанного источника
+     * @param mySource источник создания CSR-графа
+     * @return Возвращает CSR-граф или null, если данных источника нет*/
+    public CsrGraph getGraphCSR(@NotNull Source mySource){
         switch (mySource){
             case FROM_CONTIGUITY_MATRIX : {
                 if (Matrix != null && GraphVertices != null){
@@ -68,168 +99,410 @@ public class CreatorGraphs {
             }
 
             case FROM_MFI : {
-                if (G.length != 0 && P.length != 0){
+                if (G != null && P != null && G.length != 0 && P.length != 0){
                     return createFromMFI();
                 } else {
                     return null;
                 }
             }
 
+            case FROM_INCIDENCE_STREAM : {
+                if (Incidence != null){
+                    return createFromIncidenceStream();
+                } else {
+                    return null;
+                }
+            }
+
+            case FROM_DOT : {
+                if (Dot != null){
+                    return createFromDot();
+                } else {
+                    return null;
+                }
+            }
+
+            case FROM_BIT_MATRIX : {
+                if (BitMatrix != null){
+                    return createFromBitMatrix();
+                } else {
+                    return null;
+                }
+            }
+
             default:{
                 return null;
             }
         }
     }
     /**
-     *   JGraph-  GUAVA-
-     * @param myGraph GUAVA-
-     * @return  JGraph-*/
+     * Метод создает JGraph-граф из GUAVA-графа
+     * @param myGraph GUAVA-граф
+     * @return Возвращает JGraph-граф*/
     public mxGraph getJGraph(@NotNull MutableGraph<String> myGraph){
-        MutableGraphAdapter<String> jgrapht = new MutableGraphAdapter<>(myGraph);
-
-        JGraphXAdapter adapter = new JGraphXAdapter(jgrapht);
-        mxGraph graph = new mxGraph(adapter.getModel());
-
-        Object[] arrObj = graph.getChildCells(graph.getDefaultParent());
-
-
-        for (Object obj : arrObj) {
-            if (obj instanceof mxCell) {
-                mxCell cell = (mxCell) obj;
-                if (cell.isVertex()) {
-                    graph.setCellStyles(mxConstants.STYLE_STROKECOLOR, "red", new Object[]{cell});
-                    graph.setCellStyles(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_ELLIPSE, new Object[]{cell});
-                    graph.setCellStyles(mxConstants.STYLE_OPACITY, "100", new Object[]{cell});
-                    graph.setCellStyles(mxConstants.STYLE_FILLCOLOR, "red", new Object[]{cell});
-                    cell.getGeometry().setHeight(18);
-                    cell.getGeometry().setWidth(18);
-                }
-                if (cell.isEdge()) {
-                    graph.setCellStyles(mxConstants.STYLE_STROKECOLOR, "black", new Object[]{cell});
-                    graph.setCellStyles(mxConstants.STYLE_ENDARROW, mxConstants.NONE, new Object[]{cell});
-                    cell.setValue("");
+        return getJGraph(CsrGraph.of(myGraph));
+    }
+    /**
+     * Метод создает JGraph-граф из CSR-графа. Все вершины и рёбра
+     * добавляются в модель за одно изменение и получают именованные стили
+     * {@link #VERTEX_STYLE} и {@link #EDGE_STYLE}
+     * @param myGraph CSR-граф
+     * @return Возвращает JGraph-граф*/
+    public mxGraph getJGraph(@NotNull CsrGraph myGraph){
+        mxGraph graph = new mxGraph();
+        registerStyles(graph.getStylesheet());
+        Object parent = graph.getDefaultParent();
+        Object[] vertices = new Object[myGraph.size()];
+
+        graph.getModel().beginUpdate();
+        try {
+            for (int v = 0; v < vertices.length; v++) {
+                vertices[v] = graph.insertVertex(parent, null, myGraph.label(v), 0, 0, 18, 18, VERTEX_STYLE);
+            }
+            for (int v = 0; v < vertices.length; v++) {
+                for (int i = myGraph.start(v); i < myGraph.end(v); i++) {
+                    if (v < myGraph.target(i)) {
+                        graph.insertEdge(parent, null, "", vertices[v], vertices[myGraph.target(i)], EDGE_STYLE);
+                    }
                 }
             }
+        } finally {
+            graph.getModel().endUpdate();
         }
-        logger.info("  JGraph-  GUAVA-");
+        logger.info("Создание нового JGraph-графа");
         return graph;
     }
     /**
-     *   GUAVA-   
-     * @return  GUAVA-*/
-    private MutableGraph<String> createFromContigTable(){
-        MutableGraph<String> myGraph = GraphBuilder.undirected().build();
-
-        for (int i = 0; i < GraphVertices.size(); i++) {
-            myGraph.addNode(GraphVertices.get(i));
-        }
+     * Метод регистрирует в таблице стилей именованные стили вершин и рёбер графа
+     * @param stylesheet таблица стилей JGraph-графа*/
+    public static void registerStyles(@NotNull mxStylesheet stylesheet){
+        Map<String, Object> vertexStyle = new HashMap<>();
+        vertexStyle.put(mxConstants.STYLE_SHAPE, mxConstants.SHAPE_ELLIPSE);
+        vertexStyle.put(mxConstants.STYLE_STROKECOLOR, "red");
+        vertexStyle.put(mxConstants.STYLE_FILLCOLOR, "red");
+        vertexStyle.put(mxConstants.STYLE_OPACITY, "100");
+        stylesheet.putCellStyle(VERTEX_STYLE, vertexStyle);
+
+        Map<String, Object> edgeStyle = new HashMap<>();
+        edgeStyle.put(mxConstants.STYLE_STROKECOLOR, "black");
+        edgeStyle.put(mxConstants.STYLE_ENDARROW, mxConstants.NONE);
+        stylesheet.putCellStyle(EDGE_STYLE, edgeStyle);
+    }
+    /**
+     * Метод создает CSR-граф из матрицы смежности
+     * @return Возвращает CSR-граф*/
+    private CsrGraph createFromContigTable(){
+        CsrGraph.Builder builder = new CsrGraph.Builder(GraphVertices.toArray(new String[0]));
 
         for (int i = 0; i < Matrix.size(); i++) {
             for (int j = 0; j < Matrix.get(i).size(); j++) {
                 if (Matrix.get(i).get(j).equals(1)){
-                    myGraph.putEdge(GraphVertices.get(i), GraphVertices.get(j));
+                    builder.edge(i, j);
                 }
             }
         }
-        logger.info("  GUAVA-   ");
-        return myGraph;
+        logger.info("Создание нового графа из матрицы смежности");
+        return builder.build();
     }
     /**
-     *   GUAVA-   
-     * @return  GUAVA-*/
-    private MutableGraph<String> createFromIncidentTable(){
-        MutableGraph<String> myGraph = GraphBuilder.undirected().build();
-        ArrayList<Integer> indexPeaks = new ArrayList<>();
-
-        for (int i = 0; i < GraphVertices.size(); i++) {
-            myGraph.addNode(GraphVertices.get(i));
-        }
+     * Метод создает CSR-граф из матрицы инцидентности.
+     * Строки, в которых не ровно две единицы, пропускаются и попадают в список некорректных рёбер
+     * @return Возвращает CSR-граф*/
+    private CsrGraph createFromIncidentTable(){
+        CsrGraph.Builder builder = new CsrGraph.Builder(GraphVertices.toArray(new String[0]));
+        MalformedEdges.clear();
 
         for (int i = 0; i < Matrix.size(); i++) {
+            int first = -1;
+            int second = -1;
+            int count = 0;
             for (int j = 0; j < Matrix.get(i).size(); j++) {
                 if (Matrix.get(i).get(j).equals(1)){
-                    indexPeaks.add(j);
+                    if (count == 0) {
+                        first = j;
+                    } else if (count == 1) {
+                        second = j;
+                    }
+                    count++;
                 }
             }
-            myGraph.putEdge(GraphVertices.get(indexPeaks.get(0)), GraphVertices.get(indexPeaks.get(1)));
-            indexPeaks.clear();
+            if (count == 2 && second < GraphVertices.size()) {
+                builder.edge(first, second);
+            } else {
+                MalformedEdges.add("Ребро " + (i + 1) + ": инцидентно вершинам: " + count);
+            }
         }
-        logger.info("  GUAVA-   ");
-        return myGraph;
+        reportMalformedEdges();
+        logger.info("Создание нового графа из матрицы инцидентности");
+        return builder.build();
     }
     /**
-     *   GUAVA-  JGraph-
-     * @return  GUAVA-*/
-    private MutableGraph<String> createFromGraphicalView(){
-        MutableGraph<String> myGraph = GraphBuilder.undirected().build();
+     * Метод создает CSR-граф из разреженного потока инцидентности за один проход.
+     * Каждая строка потока — пара "ребро вершина", разделённая пробелами, запятой
+     * или точкой с запятой. Номер ребра — неотрицательное целое число, вершина —
+     * произвольное имя. Пустые строки и строки, начинающиеся с # или %, пропускаются.
+     * Номера рёбер отображаются на плотные номера в порядке первого появления,
+     * а для каждого ребра хранятся только два конца, поэтому память — O(E)
+     * и не зависит от величины номеров рёбер.
+     * Рёбра, инцидентные не двум вершинам, и нечитаемые строки не прерывают
+     * создание графа, а попадают в список некорректных рёбер
+     * @return Возвращает CSR-граф
+     * @throws UncheckedIOException если поток не удалось прочитать*/
+    private CsrGraph createFromIncidenceStream(){
+        LinkedHashMap<String, Integer> vertexIndex = new LinkedHashMap<>();
+        if (GraphVertices != null) {
+            for (String name : GraphVertices) {
+                vertexIndex.putIfAbsent(name, vertexIndex.size());
+            }
+        }
+        HashMap<Integer, Integer> edgeSlot = new HashMap<>();
+        int[] edgeIds = new int[16];
+        int[] firstEnd = new int[16];
+        int[] secondEnd = new int[16];
+        MalformedEdges.clear();
+
+        BufferedReader reader = Incidence instanceof BufferedReader ? (BufferedReader) Incidence : new BufferedReader(Incidence);
+        try {
+            String line;
+            int lineNumber = 0;
+            while ((line = reader.readLine()) != null) {
+                lineNumber++;
+                line = line.trim();
+                if (line.isEmpty() || line.startsWith("#") || line.startsWith("%")) {
+                    continue;
+                }
+                String[] tokens = splitPair(line);
+                int edge;
+                try {
+                    edge = tokens.length == 2 ? Integer.parseInt(tokens[0]) : -1;
+                } catch (NumberFormatException e) {
+                    edge = -1;
+                }
+                if (edge < 0) {
+                    MalformedEdges.add("Строка " + lineNumber + ": ожидается пара \"ребро вершина\": " + line);
+                    continue;
+                }
+
+                Integer slot = edgeSlot.get(edge);
+                if (slot == null) {
+                    slot = edgeSlot.size();
+                    edgeSlot.put(edge, slot);
+                    if (slot == firstEnd.length) {
+                        edgeIds = Arrays.copyOf(edgeIds, slot * 2);
+                        firstEnd = Arrays.copyOf(firstEnd, slot * 2);
+                        secondEnd = Arrays.copyOf(secondEnd, slot * 2);
+                    }
+                    edgeIds[slot] = edge;
+                    firstEnd[slot] = -1;
+                    secondEnd[slot] = -1;
+                }
+
+                Integer vertex = vertexIndex.get(tokens[1]);
+                if (vertex == null) {
+                    vertex = vertexIndex.size();
+                    vertexIndex.put(tokens[1], vertex);
+                }
+                if (firstEnd[slot] == -1) {
+                    firstEnd[slot] = vertex;
+                } else if (firstEnd[slot] != vertex && secondEnd[slot] == -1) {
+                    secondEnd[slot] = vertex;
+                } else if (firstEnd[slot] != vertex && secondEnd[slot] != vertex) {
+                    secondEnd[slot] = -2;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+
+        CsrGraph.Builder builder = new CsrGraph.Builder(vertexIndex.keySet().toArray(new String[0]));
+        for (int slot = 0; slot < edgeSlot.size(); slot++) {
+            if (secondEnd[slot] >= 0) {
+                builder.edge(firstEnd[slot], secondEnd[slot]);
+            } else if (secondEnd[slot] == -2) {
+                MalformedEdges.add("Ребро " + edgeIds[slot] + ": инцидентно более чем двум вершинам");
+            } else {
+                MalformedEdges.add("Ребро " + edgeIds[slot] + ": инцидентно одной вершине");
+            }
+        }
+        reportMalformedEdges();
+        logger.info("Создание нового графа из потока инцидентности");
+        return builder.build();
+    }
+    /**
+     * Метод создает CSR-граф из описания на языке DOT за один проход:
+     * события разборщика сразу переводятся в индексы вершин и список рёбер,
+     * без промежуточного JGraphT-графа. Вершины нумеруются с единицы
+     * в порядке первого появления в файле, атрибуты и направление рёбер
+     * не учитываются, петли и кратные рёбра отбрасываются
+     * @return Возвращает CSR-граф
+     * @throws org.jgrapht.nio.ImportException если описание некорректно*/
+    private CsrGraph createFromDot(){
+        HashMap<String, Integer> vertexIndex = new HashMap<>();
+        int[][] ends = {new int[16], new int[16]};
+        int[] count = {0};
+
+        DOTEventDrivenImporter importer = new DOTEventDrivenImporter();
+        importer.addVertexConsumer(id -> vertexIndex.putIfAbsent(id, vertexIndex.size()));
+        importer.addEdgeConsumer(pair -> {
+            int u = vertexIndex.computeIfAbsent(pair.getFirst(), id -> vertexIndex.size());
+            int v = vertexIndex.computeIfAbsent(pair.getSecond(), id -> vertexIndex.size());
+            if (count[0] == ends[0].length) {
+                ends[0] = Arrays.copyOf(ends[0], count[0] * 2);
+                ends[1] = Arrays.copyOf(ends[1], count[0] * 2);
+            }
+            ends[0][count[0]] = u;
+            ends[1][count[0]] = v;
+            count[0]++;
+        });
+        importer.importInput(Dot);
+
+        CsrGraph.Builder builder = new CsrGraph.Builder(vertexIndex.size(), 1);
+        for (int i = 0; i < count[0]; i++) {
+            builder.edge(ends[0][i], ends[1][i]);
+        }
+        logger.info("Создание нового графа из файла DOT");
+        return builder.build();
+    }
+    /**
+     * Метод записывает CSR-граф на языке DOT в том же виде, что и DOTExporter:
+     * вершины нумеруются с единицы по их индексам, каждое ребро пишется один раз
+     * @param myGraph CSR-граф
+     * @param writer поток вывода
+     * @throws IOException если запись не удалась*/
+    public static void writeDot(@NotNull CsrGraph myGraph, @NotNull Writer writer) throws IOException {
+        StringBuilder line = new StringBuilder();
+        writer.write("strict graph G {\n");
+        for (int v = 0; v < myGraph.size(); v++) {
+            line.setLength(0);
+            writer.write(line.append("  ").append(v + 1).append(";\n").toString());
+        }
+        for (int v = 0; v < myGraph.size(); v++) {
+            for (int i = myGraph.start(v); i < myGraph.end(v); i++) {
+                if (v < myGraph.target(i)) {
+                    line.setLength(0);
+                    writer.write(line.append("  ").append(v + 1).append(" -- ").append(myGraph.target(i) + 1).append(";\n").toString());
+                }
+            }
+        }
+        writer.write("}\n");
+        writer.flush();
+    }
+    /**
+     * Метод делит строку потока инцидентности на слова без регулярных выражений
+     * @param line строка без начальных и конечных пробелов
+     * @return Возвращает два слова или пустой массив, если слов не два*/
+    private static String[] splitPair(String line) {
+        String[] tokens = new String[2];
+        int count = 0;
+        int start = -1;
+        for (int i = 0; i <= line.length(); i++) {
+            boolean separator = i == line.length() || Character.isWhitespace(line.charAt(i))
+                    || line.charAt(i) == ',' || line.charAt(i) == ';';
+            if (!separator && start == -1) {
+                start = i;
+            } else if (separator && start != -1) {
+                if (count == 2) {
+                    return new String[0];
+                }
+                tokens[count++] = line.substring(start, i);
+                start = -1;
+            }
+        }
+        return count == 2 ? tokens : new String[0];
+    }
+    /**
+     * Метод записывает в журнал количество пропущенных некорректных рёбер*/
+    private void reportMalformedEdges() {
+        if (!MalformedEdges.isEmpty()) {
+            logger.warning("Пропущено некорректных рёбер: " + MalformedEdges.size() + ", первое: " + MalformedEdges.get(0));
+        }
+    }
+    /**
+     * Метод создает CSR-граф из JGraph-графа.
+     * Вспомогательные вершины без надписи (например опорная точка) пропускаются
+     * @return Возвращает CSR-граф*/
+    private CsrGraph createFromGraphicalView(){
         Object[] arrObj = Graph.getChildCells(Graph.getDefaultParent());
+        LinkedHashMap<String, Integer> index = new LinkedHashMap<>();
 
         mxCell cell;
 
         for(Object obj : arrObj){
             if (obj instanceof mxCell){
                 cell = (mxCell) obj;
-                if (cell.isVertex()){
-                    myGraph.addNode(cell.getValue().toString());
+                if (cell.isVertex() && cell.getValue() != null){
+                    index.putIfAbsent(cell.getValue().toString(), index.size());
                 }
             }
         }
 
+        CsrGraph.Builder builder = new CsrGraph.Builder(index.keySet().toArray(new String[0]));
         for(Object obj : arrObj){
             if (obj instanceof mxCell){
                 cell = (mxCell) obj;
-                if (cell.isEdge()){
-                    myGraph.putEdge(cell.getSource().getValue().toString(), cell.getTarget().getValue().toString());
+                if (cell.isEdge() && cell.getSource() != null && cell.getTarget() != null
+                        && cell.getSource().getValue() != null && cell.getTarget().getValue() != null){
+                    builder.edge(index.get(cell.getSource().getValue().toString()), index.get(cell.getTarget().getValue().toString()));
                 }
             }
         }
 
-
-        return myGraph;
+        return builder.build();
     }
     /**
-     *   GUAVA-  MFI
-     * @return  GUAVA-*/
-    private MutableGraph<String> createFromMFI(){
-        int index = 0;//    G
-        Integer box;
-        MutableGraph<String> myGraph = GraphBuilder.undirected().build();
-        HashSet<Integer> idPeak = new HashSet<>();
-
+     * Метод создает CSR-граф из MFI, оборачивая массивы G и P без копирования.
+     * Вершины нумеруются с единицы, список соседей вершины i занимает в G позиции
+     * с P[i - 1] + 1 по P[i] включительно
+     * @return Возвращает CSR-граф
+     * @throws IllegalArgumentException если P убывает или индексы выходят за пределы массивов*/
+    private CsrGraph createFromMFI(){
+        CsrGraph graph = CsrGraph.ofMFI(G, P);
+        logger.info("Создание нового графа из MFI");
+        return graph;
+    }
 
-        for (Integer someID : G){
-            idPeak.add(someID);
+    /**
+     * Метод создает CSR-граф из битовой матрицы смежности. Строка i занимает
+     * (size + 63) / 64 слов, бит j слова j / 64 означает ребро (i, j).
+     * Матрица считается симметричной, поэтому читается только верхний треугольник,
+     * а единичные биты перебираются по словам через Long.numberOfTrailingZeros.
+     * Если имена вершин не заданы, вершины нумеруются с единицы
+     * @return Возвращает CSR-граф
+     * @throws IllegalArgumentException если массив короче size строк
+     * или количество имён вершин не равно size*/
+    private CsrGraph createFromBitMatrix(){
+        int size = BitMatrixSize;
+        int words = (size + 63) >>> 6;
+        if (BitMatrix.length < (long) size * words) {
+            throw new IllegalArgumentException("Битовая матрица из " + BitMatrix.length + " слов меньше " + size + " строк по " + words + " слов");
         }
-
-        idPeak.stream().sorted();
-
-        for(Integer someName : idPeak){
-            myGraph.addNode(someName.toString());
+        if (GraphVertices != null && GraphVertices.size() != size) {
+            throw new IllegalArgumentException("Количество имён вершин (" + GraphVertices.size() + ") не совпадает с размером битовой матрицы (" + size + ")");
         }
-
-
-        for (int i = 0; i < P.length; i++) {
-            metka:
-            {
-                while (true){
-                    if (P[i] < index){
-                        break metka;
-                    }
-                    box = i;
-                    box++;
-                    myGraph.putEdge(box.toString(), G[index].toString());
-                    if (index < G.length - 1){
-                        index++;
-                    }
-                    else {
-                        break metka;
+        CsrGraph.Builder builder = GraphVertices != null
+                ? new CsrGraph.Builder(GraphVertices.toArray(new String[0]))
+                : new CsrGraph.Builder(size, 1);
+
+        for (int i = 0; i < size; i++) {
+            int base = i * words;
+            int first = (i + 1) >>> 6;
+            for (int w = first; w < words; w++) {
+                long bits = BitMatrix[base + w];
+                if (w == first) {
+                    bits &= -1L << ((i + 1) & 63);
+                }
+                while (bits != 0) {
+                    int j = (w << 6) + Long.numberOfTrailingZeros(bits);
+                    if (j >= size) {
+                        break;
                     }
+                    builder.edge(i, j);
+                    bits &= bits - 1;
                 }
             }
         }
-        logger.info("  GUAVA-  MFI");
-
-        return myGraph;
+        logger.info("Создание нового графа из битовой матрицы смежности");
+        return builder.build();
     }
 
     public static class Builder{
@@ -237,8 +510,12 @@ public class CreatorGraphs {
         private ArrayList<ArrayList<Integer>> Matrix = null;
         private List<String> GraphVertices = null;
         private mxGraph Graph = null;
-        private Integer[] G;
-        private Integer[] P;
+        private int[] G;
+        private int[] P;
+        private long[] BitMatrix = null;
+        private int BitMatrixSize;
+        private Reader Incidence = null;
+        private Reader Dot = null;
 
         public Builder matrix(ArrayList<ArrayList<Integer>> matrix){
             Matrix = matrix;
@@ -255,16 +532,40 @@ public class CreatorGraphs {
             return this;
         }
 
-        public Builder G(Integer[] G){
+        public Builder G(int[] G){
             this.G = G;
             return this;
         }
 
-        public Builder P(Integer[] P){
+        public Builder P(int[] P){
             this.P = P;
             return this;
         }
 
+        public Builder G(Integer[] G){
+            return G(Arrays.stream(G).mapToInt(Integer::intValue).toArray());
+        }
+
+        public Builder P(Integer[] P){
+            return P(Arrays.stream(P).mapToInt(Integer::intValue).toArray());
+        }
+
+        public Builder bitMatrix(long[] rows, int size){
+            BitMatrix = rows;
+            BitMatrixSize = size;
+            return this;
+        }
+
+        public Builder incidence(Reader incidence){
+            Incidence = incidence;
+            return this;
+        }
+
+        public Builder dot(Reader dot){
+            Dot = dot;
+            return this;
+        }
+
         public CreatorGraphs build(){
             return new CreatorGraphs(this);
         }
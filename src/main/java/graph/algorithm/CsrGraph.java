@@ -0,0 +1,376 @@
+package graph.algorithm;
+
+import com.google.common.graph.EndpointPair;
+import com.google.common.graph.GraphBuilder;
+import com.google.common.graph.MutableGraph;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Класс неизменяемого неориентированного графа в сжатом строчном формате (CSR):
+ * соседи вершины v лежат в массиве targets с позиции start(v) до end(v),
+ * отсортированные по возрастанию. Каждое ребро хранится дважды, петли и
+ * кратные рёбра отбрасываются. Обход соседей не создаёт объектов:
+ * <pre>
+ * for (int i = graph.start(v); i &lt; graph.end(v); i++) {
+ *     int w = graph.target(i);
+ * }
+ * </pre>*/
+public final class CsrGraph {
+
+    private static final GraphViewCache<CsrGraph> cache = new GraphViewCache<>(graph ->
+            new CreatorGraphs.Builder().graph(graph).build().getGraphCSR(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW));
+
+    private final int[] ends;
+    private final int endShift;
+    private final int[] targets;
+    private final int targetShift;
+    private final String[] labels;
+    private final int labelBase;
+
+    /**
+     * Создаёт граф поверх готовых массивов без копирования
+     * @param ends конец строки каждой вершины (исключительно) со сдвигом endShift
+     * @param endShift сдвиг, прибавляемый к значениям ends
+     * @param targets соседи всех вершин подряд со сдвигом targetShift
+     * @param targetShift сдвиг, вычитаемый из значений targets
+     * @param labels имена вершин или null, если имя — номер вершины
+     * @param labelBase номер первой вершины, если labels равен null*/
+    private CsrGraph(int[] ends, int endShift, int[] targets, int targetShift, String[] labels, int labelBase) {
+        this.ends = ends;
+        this.endShift = endShift;
+        this.targets = targets;
+        this.targetShift = targetShift;
+        this.labels = labels;
+        this.labelBase = labelBase;
+    }
+
+    CsrGraph(int[] ends, int[] targets, String[] labels) {
+        this(ends, 0, targets, 0, labels, 0);
+    }
+
+    /**
+     * Метод оборачивает MFI в CSR-граф без копирования массивов.
+     * Вершины нумеруются с единицы, список соседей вершины i занимает в G позиции
+     * с P[i - 1] + 1 по P[i] включительно. За один линейный проход проверяются
+     * монотонность P, границы индексов и номеров вершин, отсутствие петель
+     * и упорядоченность строк, затем — симметричность списков.
+     * Если строки не упорядочены, не симметричны или ссылаются на вершины без строки,
+     * граф строится копированием через {@link Builder}. Обёрнутые массивы
+     * не должны изменяться после вызова
+     * @param G номера соседних вершин, начиная с единицы
+     * @param P индексы последних элементов строк в G
+     * @return Возвращает CSR-граф
+     * @throws IllegalArgumentException если P убывает или индексы выходят за пределы массивов*/
+    public static CsrGraph ofMFI(@NotNull int[] G, @NotNull int[] P) {
+        int n = P.length;
+        if (n == 0 && G.length != 0) {
+            throw new IllegalArgumentException("P пуст, а G содержит " + G.length + " элементов");
+        }
+        if (n > 0 && P[n - 1] != G.length - 1) {
+            throw new IllegalArgumentException("Последний индекс P (" + P[n - 1] + ") не совпадает с концом G (" + (G.length - 1) + ")");
+        }
+
+        int size = n;
+        boolean wrappable = true;
+        int start = 0;
+        for (int v = 0; v < n; v++) {
+            if (P[v] < -1 || P[v] >= G.length) {
+                throw new IllegalArgumentException("Индекс P[" + v + "] = " + P[v] + " выходит за пределы G длины " + G.length);
+            }
+            int end = P[v] + 1;
+            if (end < start) {
+                throw new IllegalArgumentException("P убывает на позиции " + v + ": " + P[v] + " < " + (start - 1));
+            }
+            for (int i = start; i < end; i++) {
+                if (G[i] < 1) {
+                    throw new IllegalArgumentException("Номер вершины G[" + i + "] = " + G[i] + " меньше единицы");
+                }
+                size = Math.max(size, G[i]);
+                if (G[i] - 1 == v || (i > start && G[i] <= G[i - 1])) {
+                    wrappable = false;
+                }
+            }
+            start = end;
+        }
+
+        CsrGraph wrapped = new CsrGraph(P, 1, G, 1, null, 1);
+        if (wrappable && size == n && wrapped.isSymmetric()) {
+            return wrapped;
+        }
+
+        Builder builder = new Builder(size, 1);
+        start = 0;
+        for (int v = 0; v < n; v++) {
+            for (int i = start; i <= P[v]; i++) {
+                builder.edge(v, G[i] - 1);
+            }
+            start = P[v] + 1;
+        }
+        return builder.build();
+    }
+
+    private boolean isSymmetric() {
+        for (int v = 0; v < size(); v++) {
+            for (int i = start(v); i < end(v); i++) {
+                if (!isAdjacent(target(i), v)) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Метод строит CSR-граф по GUAVA-графу
+     * @param myGraph GUAVA-граф
+     * @return Возвращает CSR-граф*/
+    public static CsrGraph of(@NotNull MutableGraph<String> myGraph) {
+        String[] labels = myGraph.nodes().toArray(new String[0]);
+        HashMap<String, Integer> index = new HashMap<>(labels.length * 2);
+        for (int i = 0; i < labels.length; i++) {
+            index.put(labels[i], i);
+        }
+
+        Builder builder = new Builder(labels);
+        for (EndpointPair<String> rib : myGraph.edges()) {
+            builder.edge(index.get(rib.nodeU()), index.get(rib.nodeV()));
+        }
+        return builder.build();
+    }
+
+    /**
+     * Метод возвращает CSR-граф, соответствующий текущему состоянию JGraph-графа.
+     * Граф строится по ячейкам холста только после изменения вершин, рёбер
+     * или надписей, в остальных случаях возвращается сохранённый граф
+     * @param graph JGraph-граф
+     * @return Возвращает CSR-граф*/
+    public static CsrGraph of(@NotNull mxGraph graph) {
+        return cache.get(graph);
+    }
+
+    /**
+     * Метод возвращает номер версии структуры JGraph-графа
+     * @param graph JGraph-граф
+     * @return Возвращает номер версии*/
+    public static int getVersion(@NotNull mxGraph graph) {
+        return cache.getVersion(graph);
+    }
+
+    /**
+     * Метод проверяет, будет ли CSR-граф для JGraph-графа построен заново
+     * при следующем обращении
+     * @param graph JGraph-граф
+     * @return Возвращает true, если граф изменился с последнего обращения, если иначе — false*/
+    public static boolean isDirty(@NotNull mxGraph graph) {
+        return cache.isDirty(graph);
+    }
+
+    /**
+     * Метод строит GUAVA-граф с теми же вершинами и рёбрами
+     * @return Возвращает GUAVA-граф*/
+    public MutableGraph<String> toGuava() {
+        int n = size();
+        MutableGraph<String> myGraph = GraphBuilder.undirected().expectedNodeCount(n).build();
+        for (int v = 0; v < n; v++) {
+            myGraph.addNode(label(v));
+        }
+        for (int v = 0; v < n; v++) {
+            for (int i = start(v); i < end(v); i++) {
+                if (v < target(i)) {
+                    myGraph.putEdge(label(v), label(target(i)));
+                }
+            }
+        }
+        return myGraph;
+    }
+
+    /**
+     * Метод возвращает количество вершин графа
+     * @return Возвращает количество вершин*/
+    public int size() {
+        return ends.length;
+    }
+
+    /**
+     * Метод возвращает количество рёбер графа
+     * @return Возвращает количество рёбер*/
+    public int edgeCount() {
+        return ends.length == 0 ? 0 : end(ends.length - 1) / 2;
+    }
+
+    /**
+     * Метод возвращает имя вершины по её индексу
+     * @param v индекс вершины
+     * @return Возвращает имя вершины*/
+    public String label(int v) {
+        return labels != null ? labels[v] : Integer.toString(v + labelBase);
+    }
+
+    /**
+     * Метод возвращает степень вершины
+     * @param v индекс вершины
+     * @return Возвращает степень вершины*/
+    public int degree(int v) {
+        return end(v) - start(v);
+    }
+
+    /**
+     * Метод возвращает позицию первого соседа вершины в массиве соседей
+     * @param v индекс вершины
+     * @return Возвращает позицию первого соседа*/
+    public int start(int v) {
+        return v == 0 ? 0 : ends[v - 1] + endShift;
+    }
+
+    /**
+     * Метод возвращает позицию за последним соседом вершины в массиве соседей
+     * @param v индекс вершины
+     * @return Возвращает позицию за последним соседом*/
+    public int end(int v) {
+        return ends[v] + endShift;
+    }
+
+    /**
+     * Метод возвращает соседа по позиции в массиве соседей
+     * @param i позиция в массиве соседей
+     * @return Возвращает индекс соседней вершины*/
+    public int target(int i) {
+        return targets[i] - targetShift;
+    }
+
+    /**
+     * Метод проверяет смежность двух вершин двоичным поиском
+     * @param u индекс первой вершины
+     * @param v индекс второй вершины
+     * @return Возвращает true, если вершины смежны, если иначе — false*/
+    public boolean isAdjacent(int u, int v) {
+        return Arrays.binarySearch(targets, start(u), end(u), v + targetShift) >= 0;
+    }
+
+    /**
+     * Метод строит дизъюнктное объединение двух графов:
+     * вершины второго графа получают индексы со сдвигом на размер первого
+     * @param first первый граф
+     * @param second второй граф
+     * @return Возвращает объединение графов*/
+    static CsrGraph union(CsrGraph first, CsrGraph second) {
+        int n1 = first.size();
+        int n2 = second.size();
+        int m1 = n1 == 0 ? 0 : first.end(n1 - 1);
+        int m2 = n2 == 0 ? 0 : second.end(n2 - 1);
+        int[] ends = new int[n1 + n2];
+        int[] targets = new int[m1 + m2];
+        String[] labels = new String[n1 + n2];
+        for (int v = 0; v < n1; v++) {
+            ends[v] = first.end(v);
+            labels[v] = first.label(v);
+        }
+        for (int v = 0; v < n2; v++) {
+            ends[n1 + v] = m1 + second.end(v);
+            labels[n1 + v] = second.label(v);
+        }
+        for (int i = 0; i < m1; i++) {
+            targets[i] = first.target(i);
+        }
+        for (int i = 0; i < m2; i++) {
+            targets[m1 + i] = n1 + second.target(i);
+        }
+        return new CsrGraph(ends, targets, labels);
+    }
+
+    /**
+     * Класс для построения CSR-графа по списку рёбер.
+     * Рёбра копятся в двух растущих массивах и раскладываются
+     * по строкам сортировкой подсчётом*/
+    public static class Builder {
+
+        private final String[] labels;
+        private final int size;
+        private final int labelBase;
+        private int[] from = new int[16];
+        private int[] to = new int[16];
+        private int count = 0;
+
+        /**
+         * Создаёт построитель графа с заданными именами вершин
+         * @param labels имена вершин, индекс вершины — позиция в массиве*/
+        public Builder(@NotNull String[] labels) {
+            this.labels = labels;
+            this.size = labels.length;
+            this.labelBase = 0;
+        }
+
+        /**
+         * Создаёт построитель графа, в котором имя вершины — её номер
+         * @param size количество вершин
+         * @param labelBase номер первой вершины*/
+        public Builder(int size, int labelBase) {
+            this.labels = null;
+            this.size = size;
+            this.labelBase = labelBase;
+        }
+
+        /**
+         * Метод добавляет ребро. Петли отбрасываются
+         * @param u индекс первой вершины
+         * @param v индекс второй вершины
+         * @return Возвращает этот же построитель*/
+        public Builder edge(int u, int v) {
+            if (u < 0 || v < 0 || u >= size || v >= size) {
+                throw new IndexOutOfBoundsException("Ребро (" + u + ", " + v + ") выходит за пределы графа из " + size + " вершин");
+            }
+            if (u == v) {
+                return this;
+            }
+            if (count == from.length) {
+                from = Arrays.copyOf(from, count * 2);
+                to = Arrays.copyOf(to, count * 2);
+            }
+            from[count] = u;
+            to[count] = v;
+            count++;
+            return this;
+        }
+
+        /**
+         * Метод строит граф, удаляя кратные рёбра
+         * @return Возвращает CSR-граф*/
+        public CsrGraph build() {
+            int n = size;
+            int[] offsets = new int[n + 1];
+            for (int i = 0; i < count; i++) {
+                offsets[from[i] + 1]++;
+                offsets[to[i] + 1]++;
+            }
+            for (int v = 0; v < n; v++) {
+                offsets[v + 1] += offsets[v];
+            }
+            int[] targets = new int[2 * count];
+            int[] fill = Arrays.copyOf(offsets, n);
+            for (int i = 0; i < count; i++) {
+                targets[fill[from[i]]++] = to[i];
+                targets[fill[to[i]]++] = from[i];
+            }
+
+            int position = 0;
+            int rowStart = 0;
+            for (int v = 0; v < n; v++) {
+                int rowEnd = offsets[v + 1];
+                Arrays.sort(targets, rowStart, rowEnd);
+                offsets[v] = position;
+                for (int i = rowStart; i < rowEnd; i++) {
+                    if (i == rowStart || targets[i] != targets[i - 1]) {
+                        targets[position++] = targets[i];
+                    }
+                }
+                rowStart = rowEnd;
+            }
+            offsets[n] = position;
+            return new CsrGraph(Arrays.copyOfRange(offsets, 1, n + 1), 0,
+                    position == targets.length ? targets : Arrays.copyOf(targets, position), 0, labels, labelBase);
+        }
+    }
+}
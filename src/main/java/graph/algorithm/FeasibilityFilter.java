@@ -0,0 +1,264 @@
+package graph.algorithm;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.logging.Logger;
+
+/**
+ * Класс предварительного фильтра перед точной проверкой сильной регулярности.
+ * Параметры (n, k, lambda, mu) оцениваются по нескольким вершинам графа,
+ * после чего упорядоченный конвейер этапов отбрасывает графы,
+ * для которых такие параметры заведомо не существуют*/
+public class FeasibilityFilter {
+
+    /**
+     * Интерфейс одного этапа фильтра*/
+    public interface Stage {
+        /**
+         * Метод возвращает имя этапа
+         * @return Возвращает имя этапа*/
+        String getName();
+        /**
+         * Метод проверяет допустимость оценённых параметров
+         * @param matrix Битовая матрица смежности графа
+         * @param sampled Параметры, оценённые по нескольким вершинам
+         * @return Возвращает true, если граф проходит этап, если иначе — false*/
+        boolean accept(AdjacencyBitMatrix matrix, SrgParameters sampled);
+    }
+
+    /**
+     * Количество вершин, по которым сверяются оценённые параметры*/
+    private static final int SAMPLE_SIZE = 4;
+    private static final double EPSILON = 1e-9;
+
+    public static final FeasibilityFilter DEFAULT = new FeasibilityFilter(List.of(
+            new SampleStage(),
+            new IdentityStage(),
+            new IntegralityStage(),
+            new KreinStage(),
+            new AbsoluteBoundStage()
+    ));
+
+    private static final Logger logger = Logger.getLogger(FeasibilityFilter.class.getName());
+    private final List<Stage> stages;
+    private final AtomicLong[] rejections;
+    private final AtomicLong checked = new AtomicLong();
+
+    public FeasibilityFilter(@NotNull List<Stage> stages) {
+        this.stages = List.copyOf(stages);
+        this.rejections = new AtomicLong[stages.size()];
+        for (int i = 0; i < rejections.length; i++) {
+            rejections[i] = new AtomicLong();
+        }
+    }
+
+    /**
+     * Метод оценивает параметры графа по первой вершине и прогоняет их через все этапы по порядку
+     * @param matrix Битовая матрица смежности проверяемого графа
+     * @return Возвращает параметры со статусом NOT_STRONGLY_REGULAR и именем отклонившего этапа
+     * или null, если граф прошёл все этапы и требует точной проверки*/
+    public SrgParameters reject(@NotNull AdjacencyBitMatrix matrix) {
+        checked.incrementAndGet();
+        if (matrix.size() == 0) {
+            return null;
+        }
+
+        int[] reference = ParallelChecker.getReference(matrix);
+        SrgParameters sampled = Checker.classify(matrix.size(), reference[0], reference[1], reference[2]);
+
+        for (int i = 0; i < stages.size(); i++) {
+            if (!stages.get(i).accept(matrix, sampled)) {
+                rejections[i].incrementAndGet();
+                return new SrgParameters(SrgParameters.Status.NOT_STRONGLY_REGULAR, sampled.getN(), sampled.getK(),
+                        sampled.getLambda(), sampled.getMu(), null, stages.get(i).getName());
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Метод возвращает количество проверенных фильтром графов
+     * @return Возвращает количество проверенных графов*/
+    public long getChecked() {
+        return checked.get();
+    }
+
+    /**
+     * Метод возвращает счётчики отклонений по каждому этапу в порядке их выполнения
+     * @return Возвращает карту "имя этапа — количество отклонённых графов"*/
+    public Map<String, Long> getRejections() {
+        LinkedHashMap<String, Long> result = new LinkedHashMap<>();
+        for (int i = 0; i < stages.size(); i++) {
+            result.put(stages.get(i).getName(), rejections[i].get());
+        }
+        return result;
+    }
+
+    /**
+     * Метод выводит в журнал счётчики отклонений по этапам*/
+    public void logRejections() {
+        logger.info("Проверено графов: " + getChecked() + ", отклонено по этапам: " + getRejections());
+    }
+
+    /**
+     * Метод проверяет, является ли граф с такими параметрами примитивным
+     * (связным вместе со своим дополнением). Спектральные условия
+     * применимы только к примитивным сильно регулярным графам
+     * @param sampled Оценённые параметры
+     * @return Возвращает true, если граф примитивный, если иначе — false*/
+    private static boolean isPrimitive(SrgParameters sampled) {
+        return sampled.getStatus() == SrgParameters.Status.STRONGLY_REGULAR && sampled.getMu() < sampled.getK();
+    }
+
+    /**
+     * Метод вычисляет собственные значения r, s и их кратности f, g
+     * @param sampled Оценённые параметры
+     * @return Возвращает массив {r, s, f, g}*/
+    private static double[] getSpectrum(SrgParameters sampled) {
+        int n = sampled.getN();
+        int k = sampled.getK();
+        int difference = sampled.getLambda() - sampled.getMu();
+        double root = Math.sqrt((double) difference * difference + 4.0 * (k - sampled.getMu()));
+        double r = (difference + root) / 2;
+        double s = (difference - root) / 2;
+        double shift = (2.0 * k + (double) (n - 1) * difference) / root;
+        return new double[]{r, s, ((n - 1) - shift) / 2, ((n - 1) + shift) / 2};
+    }
+
+    /**
+     * Этап сверяет степень, lambda и mu ещё нескольких вершин с оценёнными по первой вершине*/
+    private static class SampleStage implements Stage {
+        @Override
+        public String getName() {
+            return "Выборка вершин";
+        }
+
+        @Override
+        public boolean accept(AdjacencyBitMatrix matrix, SrgParameters sampled) {
+            int n = matrix.size();
+            for (int step = 1; step < SAMPLE_SIZE; step++) {
+                int peak = (int) ((long) (n - 1) * step / (SAMPLE_SIZE - 1));
+                if (matrix.degree(peak) != sampled.getK()) {
+                    return false;
+                }
+                boolean lambdaSeen = false;
+                boolean muSeen = false;
+                for (int other = 0; other < n && !(lambdaSeen && muSeen); other++) {
+                    if (other == peak) {
+                        continue;
+                    }
+                    if (matrix.isAdjacent(peak, other)) {
+                        if (!lambdaSeen && matrix.commonNeighbors(peak, other) != sampled.getLambda()) {
+                            return false;
+                        }
+                        lambdaSeen = true;
+                    } else {
+                        if (!muSeen && matrix.commonNeighbors(peak, other) != sampled.getMu()) {
+                            return false;
+                        }
+                        muSeen = true;
+                    }
+                }
+            }
+            return true;
+        }
+    }
+
+    /**
+     * Этап проверяет тождество k(k - lambda - 1) = (n - k - 1)mu*/
+    private static class IdentityStage implements Stage {
+        @Override
+        public String getName() {
+            return "Тождество параметров";
+        }
+
+        @Override
+        public boolean accept(AdjacencyBitMatrix matrix, SrgParameters sampled) {
+            if (!isPrimitive(sampled)) {
+                return true;
+            }
+            long k = sampled.getK();
+            return k * (k - sampled.getLambda() - 1) == (sampled.getN() - k - 1) * sampled.getMu();
+        }
+    }
+
+    /**
+     * Этап проверяет, что кратности собственных значений — целые неотрицательные числа.
+     * Если дискриминант не является полным квадратом, граф обязан быть графом конференций*/
+    private static class IntegralityStage implements Stage {
+        @Override
+        public String getName() {
+            return "Целочисленность кратностей";
+        }
+
+        @Override
+        public boolean accept(AdjacencyBitMatrix matrix, SrgParameters sampled) {
+            if (!isPrimitive(sampled)) {
+                return true;
+            }
+            long n = sampled.getN();
+            long k = sampled.getK();
+            long difference = sampled.getLambda() - sampled.getMu();
+            long discriminant = difference * difference + 4 * (k - sampled.getMu());
+            long root = (long) Math.sqrt((double) discriminant);
+            while (root * root > discriminant) {
+                root--;
+            }
+            while ((root + 1) * (root + 1) <= discriminant) {
+                root++;
+            }
+
+            long shift = 2 * k + (n - 1) * difference;
+            if (root * root != discriminant) {
+                return shift == 0 && (n - 1) % 2 == 0;
+            }
+            long numerator = (n - 1) * root - shift;
+            return numerator >= 0 && numerator % (2 * root) == 0 && numerator / (2 * root) <= n - 1;
+        }
+    }
+
+    /**
+     * Этап проверяет оба условия Крейна*/
+    private static class KreinStage implements Stage {
+        @Override
+        public String getName() {
+            return "Условия Крейна";
+        }
+
+        @Override
+        public boolean accept(AdjacencyBitMatrix matrix, SrgParameters sampled) {
+            if (!isPrimitive(sampled)) {
+                return true;
+            }
+            double k = sampled.getK();
+            double[] spectrum = getSpectrum(sampled);
+            double r = spectrum[0];
+            double s = spectrum[1];
+            return (r + 1) * (k + r + 2 * r * s) <= (k + r) * (s + 1) * (s + 1) + EPSILON
+                    && (s + 1) * (k + s + 2 * r * s) <= (k + s) * (r + 1) * (r + 1) + EPSILON;
+        }
+    }
+
+    /**
+     * Этап проверяет абсолютную границу n <= f(f + 3)/2 и n <= g(g + 3)/2*/
+    private static class AbsoluteBoundStage implements Stage {
+        @Override
+        public String getName() {
+            return "Абсолютная граница";
+        }
+
+        @Override
+        public boolean accept(AdjacencyBitMatrix matrix, SrgParameters sampled) {
+            if (!isPrimitive(sampled)) {
+                return true;
+            }
+            double n = sampled.getN();
+            double[] spectrum = getSpectrum(sampled);
+            double f = spectrum[2];
+            double g = spectrum[3];
+            return n <= f * (f + 3) / 2 + EPSILON && n <= g * (g + 3) / 2 + EPSILON;
+        }
+    }
+}
@@ -0,0 +1,153 @@
+package graph.algorithm;
+
+import com.google.common.graph.MutableGraph;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+
+/**
+ * Класс инвариантного отпечатка графа: количество вершин и рёбер,
+ * отсортированная последовательность степеней, отсортированные количества
+ * треугольников при вершинах и гистограммы количеств общих соседей
+ * для смежных и несмежных пар. Графы с разными отпечатками не изоморфны,
+ * поэтому сравнение отпечатков отсеивает такие пары до дорогих проверок*/
+public class Fingerprint {
+
+    private static final GraphViewCache<Fingerprint> cache = new GraphViewCache<>(graph ->
+            of(CsrGraph.of(graph)));
+
+    private final int vertexCount;
+    private final int edgeCount;
+    private final int[] degrees;
+    private final int[] triangles;
+    private final int[] adjacentCommon;
+    private final int[] nonAdjacentCommon;
+    private final int hash;
+
+    private Fingerprint(int vertexCount, int edgeCount, int[] degrees, int[] triangles,
+                        int[] adjacentCommon, int[] nonAdjacentCommon) {
+        this.vertexCount = vertexCount;
+        this.edgeCount = edgeCount;
+        this.degrees = degrees;
+        this.triangles = triangles;
+        this.adjacentCommon = trim(adjacentCommon);
+        this.nonAdjacentCommon = trim(nonAdjacentCommon);
+        this.hash = Objects.hash(vertexCount, edgeCount, Arrays.hashCode(degrees), Arrays.hashCode(triangles),
+                Arrays.hashCode(this.adjacentCommon), Arrays.hashCode(this.nonAdjacentCommon));
+    }
+
+    /**
+     * Метод вычисляет отпечаток GUAVA-графа
+     * @param myGraph GUAVA-граф
+     * @return Возвращает отпечаток графа*/
+    public static Fingerprint of(@NotNull MutableGraph<String> myGraph) {
+        return of(AdjacencyBitMatrix.of(myGraph));
+    }
+
+    /**
+     * Метод вычисляет отпечаток CSR-графа
+     * @param graph CSR-граф
+     * @return Возвращает отпечаток графа*/
+    public static Fingerprint of(@NotNull CsrGraph graph) {
+        return of(AdjacencyBitMatrix.of(graph));
+    }
+
+    /**
+     * Метод возвращает отпечаток JGraph-графа. Результат запоминается
+     * и пересчитывается только после изменения структуры графа
+     * @param graph JGraph-граф
+     * @return Возвращает отпечаток графа*/
+    public static Fingerprint of(@NotNull mxGraph graph) {
+        return cache.get(graph);
+    }
+
+    /**
+     * Метод вычисляет отпечаток графа по битовой матрице смежности
+     * @param matrix битовая матрица смежности
+     * @return Возвращает отпечаток графа*/
+    static Fingerprint of(@NotNull AdjacencyBitMatrix matrix) {
+        int n = matrix.size();
+        int[] degrees = new int[n];
+        int[] triangles = new int[n];
+        int[] adjacentCommon = new int[1];
+        int[] nonAdjacentCommon = new int[1];
+        int edgeCount = 0;
+
+        for (int i = 0; i < n; i++) {
+            degrees[i] = matrix.degree(i);
+            edgeCount += degrees[i];
+        }
+        for (int i = 0; i < n; i++) {
+            for (int j = i + 1; j < n; j++) {
+                int common = matrix.commonNeighbors(i, j);
+                if (matrix.isAdjacent(i, j)) {
+                    triangles[i] += common;
+                    triangles[j] += common;
+                    adjacentCommon = count(adjacentCommon, common);
+                } else {
+                    nonAdjacentCommon = count(nonAdjacentCommon, common);
+                }
+            }
+        }
+        for (int i = 0; i < n; i++) {
+            triangles[i] /= 2;
+        }
+        Arrays.sort(degrees);
+        Arrays.sort(triangles);
+        return new Fingerprint(n, edgeCount / 2, degrees, triangles, adjacentCommon, nonAdjacentCommon);
+    }
+
+    private static int[] count(int[] histogram, int value) {
+        if (value >= histogram.length) {
+            histogram = Arrays.copyOf(histogram, Math.max(value + 1, histogram.length * 2));
+        }
+        histogram[value]++;
+        return histogram;
+    }
+
+    /**
+     * Метод возвращает количество вершин графа
+     * @return Возвращает количество вершин*/
+    public int getVertexCount() {
+        return vertexCount;
+    }
+
+    /**
+     * Метод возвращает количество рёбер графа
+     * @return Возвращает количество рёбер*/
+    public int getEdgeCount() {
+        return edgeCount;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Fingerprint)) {
+            return false;
+        }
+        Fingerprint that = (Fingerprint) o;
+        return hash == that.hash
+                && vertexCount == that.vertexCount
+                && edgeCount == that.edgeCount
+                && Arrays.equals(degrees, that.degrees)
+                && Arrays.equals(triangles, that.triangles)
+                && Arrays.equals(adjacentCommon, that.adjacentCommon)
+                && Arrays.equals(nonAdjacentCommon, that.nonAdjacentCommon);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    private static int[] trim(int[] histogram) {
+        int length = histogram.length;
+        while (length > 0 && histogram[length - 1] == 0) {
+            length--;
+        }
+        return Arrays.copyOf(histogram, length);
+    }
+}
@@ -0,0 +1,664 @@
+package graph.algorithm;
+
+import com.mxgraph.model.mxGeometry;
+import com.mxgraph.model.mxIGraphModel;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+import java.util.stream.IntStream;
+
+/**
+ * Класс силовой укладки графа (Фрухтерман — Рейнгольд): смежные вершины притягиваются,
+ * все вершины отталкиваются друг от друга. Отталкивание считается приближённо
+ * по методу Барнса — Хата: далёкие группы вершин заменяются их центром масс,
+ * хранящимся в квадродереве, поэтому итерация стоит O(n log n + m), а не O(n^2).
+ * Координаты хранятся в массивах double, силы для вершин считаются параллельно
+ * в общем пуле ForkJoinPool*/
+public final class ForceLayout {
+
+    /**
+     * Желаемая длина ребра в пикселях*/
+    public static final double EDGE_LENGTH = 50;
+
+    /**
+     * Наибольшее количество итераций укладки на одном уровне огрубления*/
+    public static final int ITERATIONS = 300;
+
+    private static final Logger logger = Logger.getLogger(ForceLayout.class.getName());
+    private static final double THETA = 1.0;
+    private static final double GRAVITY = 0.02;
+    private static final double GOLDEN_ANGLE = Math.PI * (3 - Math.sqrt(5));
+    private static final double COOLING = 0.9;
+    private static final double MIN_STEP = EDGE_LENGTH / 100;
+    private static final int COARSEST_SIZE = 32;
+    private static final double COARSENING_LIMIT = 0.8;
+    private static final int PLACEMENT_ITERATIONS = 50;
+
+    private ForceLayout() {
+    }
+
+    /**
+     * Метод расставляет вершины JGraph-графа. Вспомогательные ячейки без надписи
+     * (например опорная точка) не двигаются. Новые координаты записываются
+     * в модель графа одним изменением
+     * @param graph JGraph-граф
+     * @param progress приёмник номера выполненной итерации*/
+    public static void execute(@NotNull mxGraph graph, @NotNull IntConsumer progress) {
+        Snapshot snapshot = new Snapshot(graph);
+        long start = System.nanoTime();
+        double[][] position = layout(snapshot.graph, progress);
+        logger.info("Силовая укладка " + snapshot.vertices.size() + " вершин выполнена за "
+                + (System.nanoTime() - start) / 1_000_000 + " мс");
+        snapshot.write(position, IntStream.range(0, snapshot.vertices.size()).toArray());
+    }
+
+    /**
+     * Метод расставляет вершины JGraph-графа по известным координатам и доукладывает
+     * только вершины с неизвестными координатами. Вершины, не связанные с уже
+     * расставленными, начинают со спирали вокруг известной части укладки.
+     * Если неизвестна хотя бы половина координат, граф укладывается заново.
+     * Новые координаты записываются в модель графа одним изменением
+     * @param graph JGraph-граф
+     * @param position координаты x и y центров вершин в порядке ячеек холста
+     * @param missing индексы вершин с неизвестными координатами
+     * @param progress приёмник хода работы от 0 до {@link #ITERATIONS}
+     * @see #place(CsrGraph, double[], double[], int[])*/
+    public static void restore(@NotNull mxGraph graph, @NotNull double[][] position, @NotNull int[] missing,
+                               @NotNull IntConsumer progress) {
+        Snapshot snapshot = new Snapshot(graph);
+        int n = snapshot.vertices.size();
+        if (2 * missing.length >= n) {
+            execute(graph, progress);
+            return;
+        }
+
+        long start = System.nanoTime();
+        if (missing.length > 0) {
+            boolean[] known = new boolean[n];
+            Arrays.fill(known, true);
+            for (int v : missing) {
+                known[v] = false;
+            }
+            double centerX = 0;
+            double centerY = 0;
+            for (int v = 0; v < n; v++) {
+                if (known[v]) {
+                    centerX += position[0][v] / (n - missing.length);
+                    centerY += position[1][v] / (n - missing.length);
+                }
+            }
+            double radius = 0;
+            for (int v = 0; v < n; v++) {
+                if (known[v]) {
+                    radius = Math.max(radius, Math.hypot(position[0][v] - centerX, position[1][v] - centerY));
+                }
+            }
+            for (int i = 0; i < missing.length; i++) {
+                double distance = radius + EDGE_LENGTH * Math.sqrt(i + 0.5);
+                position[0][missing[i]] = centerX + distance * Math.cos(i * GOLDEN_ANGLE);
+                position[1][missing[i]] = centerY + distance * Math.sin(i * GOLDEN_ANGLE);
+            }
+            place(snapshot.graph, position[0], position[1], missing);
+        }
+        progress.accept(ITERATIONS);
+        logger.info("Восстановление укладки " + n + " вершин (доуложено " + missing.length + ") выполнено за "
+                + (System.nanoTime() - start) / 1_000_000 + " мс");
+        snapshot.write(position, IntStream.range(0, n).toArray());
+    }
+
+    /**
+     * Метод доукладывает новые вершины JGraph-графа, не сдвигая остальные.
+     * Вершины без рёбер остаются там, где их поставили. Новые координаты
+     * записываются в модель графа одним изменением
+     * @param graph JGraph-граф
+     * @param cells новые вершины
+     * @see #place(CsrGraph, double[], double[], int[])*/
+    public static void place(@NotNull mxGraph graph, @NotNull Collection<?> cells) {
+        Snapshot snapshot = new Snapshot(graph);
+        int[] moving = cells.stream()
+                .map(snapshot.index::get)
+                .filter(v -> v != null && snapshot.graph.degree(v) > 0)
+                .mapToInt(Integer::intValue)
+                .toArray();
+        if (moving.length == 0) {
+            return;
+        }
+        long start = System.nanoTime();
+        double[][] position = snapshot.centers();
+        place(snapshot.graph, position[0], position[1], moving);
+        logger.info("Доукладка " + moving.length + " из " + snapshot.vertices.size() + " вершин выполнена за "
+                + (System.nanoTime() - start) / 1_000_000 + " мс");
+        snapshot.write(position, moving);
+    }
+
+    /**
+     * Метод вычисляет координаты центров вершин CSR-графа многоуровневым методом:
+     * граф огрубляется стягиванием паросочетаний, самый грубый граф укладывается
+     * с раскрутки по спирали, затем укладка переносится на всё более мелкие уровни
+     * и уточняется на каждом из них. Так большие графы не "запутываются"
+     * и сходятся за меньшее число итераций
+     * @param graph CSR-граф
+     * @param progress приёмник хода работы от 0 до {@link #ITERATIONS}
+     * @return Возвращает массивы координат x и y*/
+    public static double[][] layout(@NotNull CsrGraph graph, @NotNull IntConsumer progress) {
+        ArrayList<CsrGraph> levels = new ArrayList<>();
+        ArrayList<int[]> parents = new ArrayList<>();
+        levels.add(graph);
+        while (levels.get(levels.size() - 1).size() > COARSEST_SIZE) {
+            CsrGraph fine = levels.get(levels.size() - 1);
+            int[] parent = new int[fine.size()];
+            int coarseSize = match(fine, parent);
+            if (coarseSize > COARSENING_LIMIT * fine.size()) {
+                break;
+            }
+            CsrGraph.Builder builder = new CsrGraph.Builder(coarseSize, 1);
+            for (int v = 0; v < fine.size(); v++) {
+                for (int i = fine.start(v); i < fine.end(v); i++) {
+                    if (v < fine.target(i)) {
+                        builder.edge(parent[v], parent[fine.target(i)]);
+                    }
+                }
+            }
+            levels.add(builder.build());
+            parents.add(parent);
+        }
+
+        CsrGraph coarsest = levels.get(levels.size() - 1);
+        double[] x = new double[coarsest.size()];
+        double[] y = new double[coarsest.size()];
+        for (int v = 0; v < coarsest.size(); v++) {
+            double radius = EDGE_LENGTH * Math.sqrt(v + 0.5);
+            x[v] = radius * Math.cos(v * GOLDEN_ANGLE);
+            y[v] = radius * Math.sin(v * GOLDEN_ANGLE);
+        }
+        int count = levels.size();
+        refine(coarsest, x, y, EDGE_LENGTH, iteration -> progress.accept(iteration / count));
+
+        for (int level = count - 2; level >= 0; level--) {
+            CsrGraph fine = levels.get(level);
+            int[] parent = parents.get(level);
+            double scale = Math.sqrt(fine.size() / (double) levels.get(level + 1).size());
+            double[] fineX = new double[fine.size()];
+            double[] fineY = new double[fine.size()];
+            for (int v = 0; v < fine.size(); v++) {
+                fineX[v] = x[parent[v]] * scale + EDGE_LENGTH / 10 * Math.cos(v * GOLDEN_ANGLE);
+                fineY[v] = y[parent[v]] * scale + EDGE_LENGTH / 10 * Math.sin(v * GOLDEN_ANGLE);
+            }
+            x = fineX;
+            y = fineY;
+            int done = (count - 1 - level) * ITERATIONS;
+            refine(fine, x, y, EDGE_LENGTH / 5, iteration -> progress.accept((done + iteration) / count));
+        }
+        progress.accept(ITERATIONS);
+        return new double[][]{x, y};
+    }
+
+    /**
+     * Метод доукладывает часть вершин CSR-графа, не сдвигая остальные.
+     * Новые вершины обходятся в ширину от уже уложенных и ставятся рядом
+     * с центром своих уложенных соседей, затем уточняются несколькими итерациями,
+     * в которых двигаются только они. Неподвижные вершины складываются
+     * в квадродерево один раз, поэтому итерация стоит O(k log n) для k новых вершин.
+     * Новые вершины, не связанные с уложенными, начинают со своих координат
+     * @param graph CSR-граф
+     * @param x координаты x вершин, изменяются на месте только у новых вершин
+     * @param y координаты y вершин, изменяются на месте только у новых вершин
+     * @param moving индексы новых вершин*/
+    public static void place(@NotNull CsrGraph graph, @NotNull double[] x, @NotNull double[] y, @NotNull int[] moving) {
+        int n = graph.size();
+        int count = moving.length;
+        boolean[] free = new boolean[n];
+        for (int v : moving) {
+            free[v] = true;
+        }
+
+        boolean[] queued = new boolean[n];
+        ArrayDeque<Integer> queue = new ArrayDeque<>();
+        for (int v : moving) {
+            for (int i = graph.start(v); i < graph.end(v) && !queued[v]; i++) {
+                if (!free[graph.target(i)]) {
+                    queued[v] = true;
+                    queue.add(v);
+                }
+            }
+        }
+        boolean[] placed = new boolean[n];
+        for (int v = 0; v < n; v++) {
+            placed[v] = !free[v];
+        }
+        while (!queue.isEmpty()) {
+            int v = queue.poll();
+            double sumX = 0;
+            double sumY = 0;
+            int neighbors = 0;
+            for (int i = graph.start(v); i < graph.end(v); i++) {
+                int w = graph.target(i);
+                if (placed[w]) {
+                    sumX += x[w];
+                    sumY += y[w];
+                    neighbors++;
+                } else if (!queued[w]) {
+                    queued[w] = true;
+                    queue.add(w);
+                }
+            }
+            x[v] = sumX / neighbors + EDGE_LENGTH / 2 * Math.cos(v * GOLDEN_ANGLE);
+            y[v] = sumY / neighbors + EDGE_LENGTH / 2 * Math.sin(v * GOLDEN_ANGLE);
+            placed[v] = true;
+        }
+
+        double[] fixedX = new double[n - count];
+        double[] fixedY = new double[n - count];
+        for (int v = 0, i = 0; v < n; v++) {
+            if (!free[v]) {
+                fixedX[i] = x[v];
+                fixedY[i++] = y[v];
+            }
+        }
+        QuadTree fixedTree = new QuadTree(fixedX.length);
+        if (fixedX.length > 0) {
+            fixedTree.build(fixedX, fixedY);
+        }
+
+        QuadTree movingTree = new QuadTree(count);
+        double[] movingX = new double[count];
+        double[] movingY = new double[count];
+        double[] fx = new double[count];
+        double[] fy = new double[count];
+        double k = EDGE_LENGTH;
+        double step = EDGE_LENGTH / 5;
+        double energy = Double.POSITIVE_INFINITY;
+        int improved = 0;
+
+        for (int iteration = 0; iteration < PLACEMENT_ITERATIONS && step > MIN_STEP; iteration++) {
+            for (int i = 0; i < count; i++) {
+                movingX[i] = x[moving[i]];
+                movingY[i] = y[moving[i]];
+            }
+            movingTree.build(movingX, movingY);
+            IntStream.range(0, count).parallel().forEach(i -> {
+                int v = moving[i];
+                movingTree.repulsion(i, x[v], y[v], i, k * k, fx, fy);
+                if (fixedX.length > 0) {
+                    double forceX = fx[i];
+                    double forceY = fy[i];
+                    fixedTree.repulsion(i, x[v], y[v], -1, k * k, fx, fy);
+                    fx[i] += forceX;
+                    fy[i] += forceY;
+                }
+                for (int j = graph.start(v); j < graph.end(v); j++) {
+                    int w = graph.target(j);
+                    double dx = x[v] - x[w];
+                    double dy = y[v] - y[w];
+                    double distance = Math.sqrt(dx * dx + dy * dy);
+                    fx[i] -= dx * distance / k;
+                    fy[i] -= dy * distance / k;
+                }
+            });
+
+            double current = step;
+            double total = IntStream.range(0, count).parallel().mapToDouble(i -> {
+                double length = Math.sqrt(fx[i] * fx[i] + fy[i] * fy[i]);
+                if (length > 0) {
+                    x[moving[i]] += fx[i] * current / length;
+                    y[moving[i]] += fy[i] * current / length;
+                }
+                return length * length;
+            }).sum();
+
+            if (total < energy) {
+                if (++improved >= 5) {
+                    improved = 0;
+                    step /= COOLING;
+                }
+            } else {
+                improved = 0;
+                step *= COOLING;
+            }
+            energy = total;
+        }
+    }
+
+    /**
+     * Метод строит паросочетание для огрубления графа: вершины просматриваются
+     * по возрастанию степени, и каждая свободная вершина стягивается со свободным
+     * соседом наименьшей степени
+     * @param graph CSR-граф
+     * @param parent массив, в который записывается номер вершины грубого графа для каждой вершины
+     * @return Возвращает количество вершин грубого графа*/
+    private static int match(CsrGraph graph, int[] parent) {
+        int n = graph.size();
+        int maxDegree = 0;
+        for (int v = 0; v < n; v++) {
+            maxDegree = Math.max(maxDegree, graph.degree(v));
+        }
+        int[] offsets = new int[maxDegree + 2];
+        for (int v = 0; v < n; v++) {
+            offsets[graph.degree(v) + 1]++;
+        }
+        for (int d = 0; d <= maxDegree; d++) {
+            offsets[d + 1] += offsets[d];
+        }
+        int[] order = new int[n];
+        for (int v = 0; v < n; v++) {
+            order[offsets[graph.degree(v)]++] = v;
+        }
+
+        Arrays.fill(parent, -1);
+        int coarseSize = 0;
+        for (int v : order) {
+            if (parent[v] >= 0) {
+                continue;
+            }
+            int partner = -1;
+            for (int i = graph.start(v); i < graph.end(v); i++) {
+                int w = graph.target(i);
+                if (parent[w] < 0 && (partner < 0 || graph.degree(w) < graph.degree(partner))) {
+                    partner = w;
+                }
+            }
+            parent[v] = coarseSize;
+            if (partner >= 0) {
+                parent[partner] = coarseSize;
+            }
+            coarseSize++;
+        }
+        return coarseSize;
+    }
+
+    /**
+     * Метод уточняет укладку одного уровня. Шаг смещения подбирается адаптивно:
+     * он растёт после пяти подряд итераций с убывающей энергией и уменьшается
+     * в остальных случаях; уточнение заканчивается, когда шаг становится малым
+     * @param graph CSR-граф
+     * @param x координаты x вершин, изменяются на месте
+     * @param y координаты y вершин, изменяются на месте
+     * @param initialStep начальный шаг смещения
+     * @param progress приёмник номера выполненной итерации*/
+    private static void refine(CsrGraph graph, double[] x, double[] y, double initialStep, IntConsumer progress) {
+        int n = graph.size();
+        if (n < 2) {
+            return;
+        }
+        double[] fx = new double[n];
+        double[] fy = new double[n];
+        double k = EDGE_LENGTH;
+        double step = initialStep;
+        double energy = Double.POSITIVE_INFINITY;
+        int improved = 0;
+        QuadTree tree = new QuadTree(n);
+
+        for (int iteration = 0; iteration < ITERATIONS && step > MIN_STEP; iteration++) {
+            tree.build(x, y);
+            IntStream.range(0, n).parallel().forEach(v -> {
+                tree.repulsion(v, x[v], y[v], v, k * k, fx, fy);
+                for (int i = graph.start(v); i < graph.end(v); i++) {
+                    int w = graph.target(i);
+                    double dx = x[v] - x[w];
+                    double dy = y[v] - y[w];
+                    double distance = Math.sqrt(dx * dx + dy * dy);
+                    fx[v] -= dx * distance / k;
+                    fy[v] -= dy * distance / k;
+                }
+                double distance = Math.sqrt(x[v] * x[v] + y[v] * y[v]);
+                fx[v] -= GRAVITY * x[v] * distance / k;
+                fy[v] -= GRAVITY * y[v] * distance / k;
+            });
+
+            double current = step;
+            double total = IntStream.range(0, n).parallel().mapToDouble(v -> {
+                double length = Math.sqrt(fx[v] * fx[v] + fy[v] * fy[v]);
+                if (length > 0) {
+                    x[v] += fx[v] * current / length;
+                    y[v] += fy[v] * current / length;
+                }
+                return length * length;
+            }).sum();
+
+            if (total < energy) {
+                if (++improved >= 5) {
+                    improved = 0;
+                    step /= COOLING;
+                }
+            } else {
+                improved = 0;
+                step *= COOLING;
+            }
+            energy = total;
+            progress.accept(iteration + 1);
+        }
+    }
+
+    /**
+     * Класс снимка вершин JGraph-графа: список вершин с надписью, их индексы
+     * и CSR-граф рёбер между ними*/
+    private static final class Snapshot {
+        private final mxIGraphModel model;
+        private final ArrayList<Object> vertices = new ArrayList<>();
+        private final IdentityHashMap<Object, Integer> index = new IdentityHashMap<>();
+        private final CsrGraph graph;
+
+        private Snapshot(mxGraph jGraph) {
+            model = jGraph.getModel();
+            Object parent = jGraph.getDefaultParent();
+            int childCount = model.getChildCount(parent);
+            for (int i = 0; i < childCount; i++) {
+                Object cell = model.getChildAt(parent, i);
+                if (model.isVertex(cell) && model.getValue(cell) != null) {
+                    index.put(cell, vertices.size());
+                    vertices.add(cell);
+                }
+            }
+            CsrGraph.Builder builder = new CsrGraph.Builder(vertices.size(), 1);
+            for (int i = 0; i < childCount; i++) {
+                Object cell = model.getChildAt(parent, i);
+                if (model.isEdge(cell)) {
+                    Integer u = index.get(model.getTerminal(cell, true));
+                    Integer v = index.get(model.getTerminal(cell, false));
+                    if (u != null && v != null) {
+                        builder.edge(u, v);
+                    }
+                }
+            }
+            graph = builder.build();
+        }
+
+        /**
+         * Метод возвращает текущие координаты центров вершин
+         * @return Возвращает массивы координат x и y*/
+        private double[][] centers() {
+            double[][] position = new double[2][vertices.size()];
+            for (int v = 0; v < vertices.size(); v++) {
+                mxGeometry geometry = model.getGeometry(vertices.get(v));
+                position[0][v] = geometry.getCenterX();
+                position[1][v] = geometry.getCenterY();
+            }
+            return position;
+        }
+
+        /**
+         * Метод записывает координаты центров вершин в модель одним изменением
+         * @param position массивы координат x и y
+         * @param which индексы вершин, которые нужно сдвинуть*/
+        private void write(double[][] position, int[] which) {
+            model.beginUpdate();
+            try {
+                for (int v : which) {
+                    mxGeometry geometry = (mxGeometry) model.getGeometry(vertices.get(v)).clone();
+                    geometry.setX(position[0][v] - geometry.getWidth() / 2);
+                    geometry.setY(position[1][v] - geometry.getHeight() / 2);
+                    model.setGeometry(vertices.get(v), geometry);
+                }
+            } finally {
+                model.endUpdate();
+            }
+        }
+    }
+
+    /**
+     * Класс квадродерева на массивах: у каждого узла хранятся масса, сумма
+     * координат вершин и квадрат, который он покрывает. Четыре потомка узла
+     * лежат подряд, начиная с индекса firstChild*/
+    private static final class QuadTree {
+
+        private static final int MAX_DEPTH = 48;
+
+        private int[] firstChild;
+        private int[] point;
+        private double[] mass;
+        private double[] sumX;
+        private double[] sumY;
+        private double[] centerX;
+        private double[] centerY;
+        private double[] half;
+        private int count;
+        private double[] x;
+        private double[] y;
+
+        private QuadTree(int n) {
+            allocate(Math.max(16, 2 * n));
+        }
+
+        private void allocate(int capacity) {
+            firstChild = firstChild == null ? new int[capacity] : Arrays.copyOf(firstChild, capacity);
+            point = point == null ? new int[capacity] : Arrays.copyOf(point, capacity);
+            mass = mass == null ? new double[capacity] : Arrays.copyOf(mass, capacity);
+            sumX = sumX == null ? new double[capacity] : Arrays.copyOf(sumX, capacity);
+            sumY = sumY == null ? new double[capacity] : Arrays.copyOf(sumY, capacity);
+            centerX = centerX == null ? new double[capacity] : Arrays.copyOf(centerX, capacity);
+            centerY = centerY == null ? new double[capacity] : Arrays.copyOf(centerY, capacity);
+            half = half == null ? new double[capacity] : Arrays.copyOf(half, capacity);
+        }
+
+        private void build(double[] x, double[] y) {
+            this.x = x;
+            this.y = y;
+            double minX = Double.POSITIVE_INFINITY, minY = Double.POSITIVE_INFINITY;
+            double maxX = Double.NEGATIVE_INFINITY, maxY = Double.NEGATIVE_INFINITY;
+            for (int v = 0; v < x.length; v++) {
+                minX = Math.min(minX, x[v]);
+                maxX = Math.max(maxX, x[v]);
+                minY = Math.min(minY, y[v]);
+                maxY = Math.max(maxY, y[v]);
+            }
+            count = 0;
+            node((minX + maxX) / 2, (minY + maxY) / 2, Math.max(maxX - minX, maxY - minY) / 2 + 1);
+            for (int v = 0; v < x.length; v++) {
+                insert(v);
+            }
+        }
+
+        private int node(double cx, double cy, double size) {
+            if (count == firstChild.length) {
+                allocate(count * 2);
+            }
+            firstChild[count] = -1;
+            point[count] = -1;
+            mass[count] = 0;
+            sumX[count] = 0;
+            sumY[count] = 0;
+            centerX[count] = cx;
+            centerY[count] = cy;
+            half[count] = size;
+            return count++;
+        }
+
+        private int quadrant(int node, double px, double py) {
+            return (px < centerX[node] ? 0 : 1) + (py < centerY[node] ? 0 : 2);
+        }
+
+        private void insert(int v) {
+            int node = 0;
+            for (int depth = 0; ; depth++) {
+                if (firstChild[node] < 0 && mass[node] == 0) {
+                    point[node] = v;
+                    add(node, v);
+                    return;
+                }
+                if (firstChild[node] < 0) {
+                    if (depth >= MAX_DEPTH) {
+                        add(node, v);
+                        return;
+                    }
+                    split(node);
+                }
+                add(node, v);
+                node = firstChild[node] + quadrant(node, x[v], y[v]);
+            }
+        }
+
+        private void split(int node) {
+            double quarter = half[node] / 2;
+            int first = node(centerX[node] - quarter, centerY[node] - quarter, quarter);
+            node(centerX[node] + quarter, centerY[node] - quarter, quarter);
+            node(centerX[node] - quarter, centerY[node] + quarter, quarter);
+            node(centerX[node] + quarter, centerY[node] + quarter, quarter);
+            firstChild[node] = first;
+
+            int child = first + quadrant(node, x[point[node]], y[point[node]]);
+            point[child] = point[node];
+            mass[child] = mass[node];
+            sumX[child] = sumX[node];
+            sumY[child] = sumY[node];
+            point[node] = -1;
+        }
+
+        private void add(int node, int v) {
+            mass[node]++;
+            sumX[node] += x[v];
+            sumY[node] += y[v];
+        }
+
+        /**
+         * Метод вычисляет силу отталкивания точки от всех вершин дерева.
+         * Стек обхода ограничен глубиной дерева: раскрытие узла добавляет
+         * не более трёх элементов сверх снятого
+         * @param slot индекс, по которому сила записывается в массивы
+         * @param px координата x точки
+         * @param py координата y точки
+         * @param self индекс точки в дереве или -1, если её там нет
+         * @param strength квадрат желаемой длины ребра
+         * @param fx массив, в который записывается компонента x силы
+         * @param fy массив, в который записывается компонента y силы*/
+        private void repulsion(int slot, double px, double py, int self, double strength, double[] fx, double[] fy) {
+            double forceX = 0;
+            double forceY = 0;
+            int[] stack = new int[3 * MAX_DEPTH + 4];
+            int top = 0;
+            stack[top++] = 0;
+            while (top > 0) {
+                int node = stack[--top];
+                double m = mass[node];
+                double sx = sumX[node];
+                double sy = sumY[node];
+                if (firstChild[node] < 0 && point[node] == self) {
+                    m -= 1;
+                    sx -= px;
+                    sy -= py;
+                }
+                if (m <= 0) {
+                    continue;
+                }
+                double dx = px - sx / m;
+                double dy = py - sy / m;
+                double distance2 = dx * dx + dy * dy;
+                double size = 2 * half[node];
+                if (firstChild[node] < 0 || size * size < THETA * THETA * distance2) {
+                    if (distance2 > 0) {
+                        forceX += dx * m * strength / distance2;
+                        forceY += dy * m * strength / distance2;
+                    }
+                } else {
+                    for (int c = 0; c < 4; c++) {
+                        stack[top++] = firstChild[node] + c;
+                    }
+                }
+            }
+            fx[slot] = forceX;
+            fy[slot] = forceY;
+        }
+    }
+}
@@ -0,0 +1,127 @@
+package graph.algorithm;
+
+import com.mxgraph.model.mxGeometry;
+import com.mxgraph.model.mxIGraphModel;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.geom.AffineTransform;
+import java.util.ArrayList;
+
+/**
+ * Класс преобразований расположения вершин JGraph-графа: сдвиг, масштаб, поворот,
+ * отражение и раздвигание от опорной точки. Центры вершин читаются в массив
+ * координат, преобразуются за один проход и записываются в модель графа одним
+ * изменением, поэтому холст перерисовывается один раз на всё преобразование.
+ * Вспомогательные ячейки без надписи (например опорная точка) не двигаются*/
+public final class GeometryTransform {
+
+    private GeometryTransform() {
+    }
+
+    /**
+     * Метод применяет аффинное преобразование к центрам вершин графа
+     * @param graph JGraph-граф
+     * @param transform аффинное преобразование*/
+    public static void apply(@NotNull mxGraph graph, @NotNull AffineTransform transform) {
+        ArrayList<Object> vertices = vertices(graph);
+        double[] points = centers(graph.getModel(), vertices);
+        transform.transform(points, 0, points, 0, vertices.size());
+        write(graph.getModel(), vertices, points);
+    }
+
+    /**
+     * Метод применяет аффинное преобразование к центрам вершин графа относительно
+     * опорной точки: опорная точка остаётся на месте. Например, масштаб
+     * растягивает граф от опорной точки, а поворот вращает граф вокруг неё
+     * @param graph JGraph-граф
+     * @param transform аффинное преобразование с началом координат в опорной точке
+     * @param anchorX координата x опорной точки
+     * @param anchorY координата y опорной точки*/
+    public static void apply(@NotNull mxGraph graph, @NotNull AffineTransform transform, double anchorX, double anchorY) {
+        AffineTransform around = AffineTransform.getTranslateInstance(anchorX, anchorY);
+        around.concatenate(transform);
+        around.translate(-anchorX, -anchorY);
+        apply(graph, around);
+    }
+
+    /**
+     * Метод раздвигает вершины от опорной точки или сдвигает их к ней на постоянный шаг:
+     * по каждой оси вершина сдвигается от линии опорной точки при положительном шаге
+     * и к ней при отрицательном. Вершина на линии опорной точки не сдвигается,
+     * а при сдвиге к опорной точке вершина не переходит через её линию
+     * и остаётся на месте, если до линии меньше шага
+     * @param graph JGraph-граф
+     * @param anchorX координата x опорной точки
+     * @param anchorY координата y опорной точки
+     * @param stepX шаг по оси x
+     * @param stepY шаг по оси y*/
+    public static void spread(@NotNull mxGraph graph, double anchorX, double anchorY, double stepX, double stepY) {
+        ArrayList<Object> vertices = vertices(graph);
+        double[] points = centers(graph.getModel(), vertices);
+        for (int i = 0; i < points.length; i += 2) {
+            points[i] = spread(points[i], anchorX, stepX);
+            points[i + 1] = spread(points[i + 1], anchorY, stepY);
+        }
+        write(graph.getModel(), vertices, points);
+    }
+
+    private static double spread(double value, double anchor, double step) {
+        double offset = value - anchor;
+        if (offset == 0 || Math.abs(offset) < -step) {
+            return value;
+        }
+        return value + Math.signum(offset) * step;
+    }
+
+    /**
+     * Метод возвращает вершины графа с надписью
+     * @param graph JGraph-граф
+     * @return Возвращает список вершин*/
+    private static ArrayList<Object> vertices(mxGraph graph) {
+        mxIGraphModel model = graph.getModel();
+        Object parent = graph.getDefaultParent();
+        ArrayList<Object> vertices = new ArrayList<>();
+        for (int i = 0; i < model.getChildCount(parent); i++) {
+            Object cell = model.getChildAt(parent, i);
+            if (model.isVertex(cell) && model.getValue(cell) != null && model.getGeometry(cell) != null) {
+                vertices.add(cell);
+            }
+        }
+        return vertices;
+    }
+
+    /**
+     * Метод читает центры вершин в массив вида x0, y0, x1, y1, ...
+     * @param model модель графа
+     * @param vertices вершины
+     * @return Возвращает массив координат*/
+    private static double[] centers(mxIGraphModel model, ArrayList<Object> vertices) {
+        double[] points = new double[2 * vertices.size()];
+        for (int i = 0; i < vertices.size(); i++) {
+            mxGeometry geometry = model.getGeometry(vertices.get(i));
+            points[2 * i] = geometry.getCenterX();
+            points[2 * i + 1] = geometry.getCenterY();
+        }
+        return points;
+    }
+
+    /**
+     * Метод записывает центры вершин в модель графа одним изменением
+     * @param model модель графа
+     * @param vertices вершины
+     * @param points массив координат вида x0, y0, x1, y1, ...*/
+    private static void write(mxIGraphModel model, ArrayList<Object> vertices, double[] points) {
+        model.beginUpdate();
+        try {
+            for (int i = 0; i < vertices.size(); i++) {
+                mxGeometry geometry = (mxGeometry) model.getGeometry(vertices.get(i)).clone();
+                geometry.setX(points[2 * i] - geometry.getWidth() / 2);
+                geometry.setY(points[2 * i + 1] - geometry.getHeight() / 2);
+                model.setGeometry(vertices.get(i), geometry);
+            }
+        } finally {
+            model.endUpdate();
+        }
+    }
+}
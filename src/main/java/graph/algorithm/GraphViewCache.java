@@ -0,0 +1,103 @@
+package graph.algorithm;
+
+import com.mxgraph.model.mxGraphModel;
+import com.mxgraph.util.mxEvent;
+import com.mxgraph.util.mxEventObject;
+import com.mxgraph.util.mxUndoableEdit;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.function.Function;
+
+/**
+ * Класс хранит вычисленные по JGraph-графу значения (хэши, отпечатки и т.п.)
+ * и сбрасывает их, когда меняется структура графа: вершины, рёбра или надписи.
+ * Перемещение вершин по холсту значение не сбрасывает*/
+public class GraphViewCache<V> {
+
+    private final Function<mxGraph, V> factory;
+    private final WeakHashMap<mxGraph, V> values = new WeakHashMap<>();
+    private final WeakHashMap<mxGraph, Integer> versions = new WeakHashMap<>();
+    private final Set<mxGraph> subscribed = Collections.newSetFromMap(new WeakHashMap<>());
+
+    public GraphViewCache(@NotNull Function<mxGraph, V> factory) {
+        this.factory = factory;
+    }
+
+    /**
+     * Метод возвращает сохранённое значение для графа, вычисляя его при необходимости.
+     * Метод можно вызывать из нескольких потоков: значение вычисляется вне блокировки
+     * и не сохраняется, если граф изменился во время вычисления
+     * @param graph JGraph-граф
+     * @return Возвращает значение для текущего состояния графа*/
+    public V get(@NotNull mxGraph graph) {
+        int version;
+        synchronized (this) {
+            if (subscribed.add(graph)) {
+                graph.getModel().addListener(mxEvent.CHANGE, (sender, evt) -> {
+                    if (isStructureChange(evt)) {
+                        invalidate(graph);
+                    }
+                });
+            }
+            V value = values.get(graph);
+            if (value != null) {
+                return value;
+            }
+            version = versions.getOrDefault(graph, 0);
+        }
+        V value = factory.apply(graph);
+        synchronized (this) {
+            if (versions.getOrDefault(graph, 0) == version) {
+                values.put(graph, value);
+            }
+        }
+        return value;
+    }
+
+    /**
+     * Метод возвращает номер версии структуры графа: номер растёт при каждом
+     * изменении вершин, рёбер или надписей после первого обращения к графу
+     * @param graph JGraph-граф
+     * @return Возвращает номер версии*/
+    public synchronized int getVersion(@NotNull mxGraph graph) {
+        return versions.getOrDefault(graph, 0);
+    }
+
+    /**
+     * Метод проверяет, устарело ли сохранённое значение для графа
+     * @param graph JGraph-граф
+     * @return Возвращает true, если значение нужно вычислить заново, если иначе — false*/
+    public synchronized boolean isDirty(@NotNull mxGraph graph) {
+        return !values.containsKey(graph);
+    }
+
+    /**
+     * Метод сбрасывает сохранённое значение для графа
+     * @param graph JGraph-граф*/
+    public synchronized void invalidate(@NotNull mxGraph graph) {
+        values.remove(graph);
+        versions.merge(graph, 1, Integer::sum);
+    }
+
+    /**
+     * Метод проверяет, затрагивает ли событие изменения модели структуру графа
+     * @param evt событие изменения модели
+     * @return Возвращает true, если изменились вершины, рёбра или надписи, если иначе — false*/
+    static boolean isStructureChange(mxEventObject evt) {
+        mxUndoableEdit edit = (mxUndoableEdit) evt.getProperty("edit");
+        if (edit == null) {
+            return true;
+        }
+        for (mxUndoableEdit.mxUndoableChange change : edit.getChanges()) {
+            if (change instanceof mxGraphModel.mxChildChange
+                    || change instanceof mxGraphModel.mxTerminalChange
+                    || change instanceof mxGraphModel.mxValueChange
+                    || change instanceof mxGraphModel.mxRootChange) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,350 @@
+package graph.algorithm;
+
+import com.mxgraph.model.mxGraphModel;
+import com.mxgraph.model.mxIGraphModel;
+import com.mxgraph.util.mxEvent;
+import com.mxgraph.util.mxEventObject;
+import com.mxgraph.util.mxEventSource;
+import com.mxgraph.util.mxUndoableEdit;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Класс поддерживает состояние проверки сильной регулярности JGraph-графа
+ * во время интерактивного редактирования. Он слушает изменения модели графа
+ * и хранит матрицу количеств общих соседей, гистограмму степеней и гистограммы
+ * значений lambda и mu. Добавление или удаление ребра обходится в O(deg),
+ * а ответ на вопрос "сильно ли регулярен граф сейчас" — в O(1)*/
+public class IncrementalChecker {
+
+    /**
+     * Класс гистограммы неотрицательных целых значений,
+     * хранящий число различных встречающихся значений*/
+    private static class Histogram {
+        private int[] counts = new int[16];
+        private int distinct = 0;
+
+        private void add(int value, int times) {
+            if (value >= counts.length) {
+                counts = Arrays.copyOf(counts, Math.max(value + 1, counts.length * 2));
+            }
+            if (counts[value] == 0 && times > 0) {
+                distinct++;
+            }
+            counts[value] += times;
+        }
+
+        private void remove(int value, int times) {
+            counts[value] -= times;
+            if (counts[value] == 0 && times > 0) {
+                distinct--;
+            }
+        }
+
+        private void move(int from, int to) {
+            remove(from, 1);
+            add(to, 1);
+        }
+
+        private int single() {
+            for (int value = 0; value < counts.length; value++) {
+                if (counts[value] != 0) {
+                    return value;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final Logger logger = Logger.getLogger(IncrementalChecker.class.getName());
+    private final mxGraph graph;
+    private final mxEventSource.mxIEventListener listener = this::modelChanged;
+
+    private final HashMap<Object, Integer> vertexIndex = new HashMap<>();
+    private final HashMap<Object, Object[]> edgeEnds = new HashMap<>();
+    private final ArrayDeque<Integer> freeIndexes = new ArrayDeque<>();
+    private final ArrayList<HashMap<Integer, Integer>> neighbors = new ArrayList<>();
+    private final ArrayList<HashSet<Object>> incidentEdges = new ArrayList<>();
+    private int[][] common = new int[0][0];
+    private int vertexCount = 0;
+
+    private final Histogram degrees = new Histogram();
+    private final Histogram lambdas = new Histogram();
+    private final Histogram mus = new Histogram();
+
+    /**
+     * Создаёт проверку для графа и подписывается на изменения его модели
+     * @param graph JGraph-граф*/
+    public IncrementalChecker(@NotNull mxGraph graph) {
+        this.graph = graph;
+        rebuild();
+        graph.getModel().addListener(mxEvent.CHANGE, listener);
+    }
+
+    /**
+     * Метод отписывает проверку от изменений модели графа*/
+    public void dispose() {
+        graph.getModel().removeListener(listener);
+    }
+
+    /**
+     * Метод проверяет, является ли граф сильно регулярным в текущем состоянии
+     * @return Возвращает true, если граф сильно регулярен, если иначе — false*/
+    public boolean isStronglyRegular() {
+        return degrees.distinct <= 1 && lambdas.distinct <= 1 && mus.distinct <= 1;
+    }
+
+    /**
+     * Метод возвращает параметры графа в текущем состоянии.
+     * Контрпример при этом не строится
+     * @return Возвращает параметры графа вместе со статусом*/
+    public SrgParameters getParameters() {
+        int k = degrees.distinct == 1 ? degrees.single() : (vertexCount == 0 ? 0 : -1);
+        int lambda = lambdas.distinct == 1 ? lambdas.single() : -1;
+        int mu = mus.distinct == 1 ? mus.single() : -1;
+
+        if (!isStronglyRegular()) {
+            return new SrgParameters(SrgParameters.Status.NOT_STRONGLY_REGULAR, vertexCount, k, lambda, mu, null);
+        }
+        return Checker.classify(vertexCount, k, lambda, mu);
+    }
+
+    /**
+     * Метод обрабатывает событие изменения модели графа
+     * @param sender модель графа
+     * @param evt событие изменения*/
+    private void modelChanged(Object sender, mxEventObject evt) {
+        mxUndoableEdit edit = (mxUndoableEdit) evt.getProperty("edit");
+        if (edit == null) {
+            return;
+        }
+
+        mxIGraphModel model = graph.getModel();
+        LinkedHashSet<Object> touchedEdges = new LinkedHashSet<>();
+        LinkedHashSet<Object> touchedVertices = new LinkedHashSet<>();
+
+        for (mxUndoableEdit.mxUndoableChange change : edit.getChanges()) {
+            if (change instanceof mxGraphModel.mxRootChange) {
+                rebuild();
+                return;
+            }
+            if (change instanceof mxGraphModel.mxChildChange) {
+                collect(model, ((mxGraphModel.mxChildChange) change).getChild(), touchedVertices, touchedEdges);
+            } else if (change instanceof mxGraphModel.mxTerminalChange) {
+                touchedEdges.add(((mxGraphModel.mxTerminalChange) change).getCell());
+            } else if (change instanceof mxGraphModel.mxValueChange) {
+                touchedVertices.add(((mxGraphModel.mxValueChange) change).getCell());
+            }
+        }
+
+        for (Object edge : touchedEdges) {
+            Object[] ends = edgeEnds.get(edge);
+            if (ends != null && !Arrays.equals(ends, getEnds(model, edge))) {
+                disconnect(edge);
+            }
+        }
+        for (Object vertex : touchedVertices) {
+            if (vertexIndex.containsKey(vertex) && !isTracked(model, vertex)) {
+                removeVertex(vertex);
+            }
+        }
+        for (Object vertex : touchedVertices) {
+            if (!vertexIndex.containsKey(vertex) && isTracked(model, vertex)) {
+                addVertex(vertex);
+            }
+        }
+        for (Object edge : touchedEdges) {
+            Object[] ends = getEnds(model, edge);
+            if (ends != null && !edgeEnds.containsKey(edge)) {
+                connect(edge, ends);
+            }
+        }
+    }
+
+    /**
+     * Метод собирает вершины и рёбра, затронутые изменением ячейки и её потомков
+     * @param model модель графа
+     * @param cell изменённая ячейка
+     * @param vertices затронутые вершины
+     * @param edges затронутые рёбра*/
+    private void collect(mxIGraphModel model, Object cell, Set<Object> vertices, Set<Object> edges) {
+        if (model.isEdge(cell)) {
+            edges.add(cell);
+        } else if (model.isVertex(cell)) {
+            vertices.add(cell);
+        }
+        for (int i = 0; i < model.getChildCount(cell); i++) {
+            collect(model, model.getChildAt(cell, i), vertices, edges);
+        }
+    }
+
+    /**
+     * Метод проверяет, учитывается ли ячейка как вершина графа.
+     * Вспомогательные ячейки без надписи (например опорная точка) не учитываются
+     * @param model модель графа
+     * @param cell ячейка
+     * @return Возвращает true, если ячейка — вершина графа, если иначе — false*/
+    private static boolean isTracked(mxIGraphModel model, Object cell) {
+        return model.contains(cell) && model.isVertex(cell) && model.getValue(cell) != null;
+    }
+
+    /**
+     * Метод возвращает концы ребра в текущем состоянии модели
+     * @param model модель графа
+     * @param edge ребро
+     * @return Возвращает массив из двух вершин или null, если ребро не учитывается*/
+    private static Object[] getEnds(mxIGraphModel model, Object edge) {
+        if (!model.contains(edge) || !model.isEdge(edge)) {
+            return null;
+        }
+        Object source = model.getTerminal(edge, true);
+        Object target = model.getTerminal(edge, false);
+        if (source == null || target == null || source == target
+                || !isTracked(model, source) || !isTracked(model, target)) {
+            return null;
+        }
+        return new Object[]{source, target};
+    }
+
+    /**
+     * Метод заново строит всё состояние по текущей модели графа*/
+    private void rebuild() {
+        vertexIndex.clear();
+        edgeEnds.clear();
+        freeIndexes.clear();
+        neighbors.clear();
+        incidentEdges.clear();
+        common = new int[0][0];
+        vertexCount = 0;
+        degrees.counts = new int[16];
+        degrees.distinct = 0;
+        lambdas.counts = new int[16];
+        lambdas.distinct = 0;
+        mus.counts = new int[16];
+        mus.distinct = 0;
+
+        mxIGraphModel model = graph.getModel();
+        Object[] cells = graph.getChildCells(graph.getDefaultParent());
+        for (Object cell : cells) {
+            if (isTracked(model, cell)) {
+                addVertex(cell);
+            }
+        }
+        for (Object cell : cells) {
+            Object[] ends = getEnds(model, cell);
+            if (ends != null) {
+                connect(cell, ends);
+            }
+        }
+        logger.info("Построено состояние инкрементальной проверки: " + getParameters());
+    }
+
+    private void addVertex(Object vertex) {
+        int index;
+        if (freeIndexes.isEmpty()) {
+            index = neighbors.size();
+            neighbors.add(new HashMap<>());
+            incidentEdges.add(new HashSet<>());
+            if (index >= common.length) {
+                int capacity = Math.max(16, common.length * 2);
+                int[][] grown = new int[capacity][capacity];
+                for (int i = 0; i < common.length; i++) {
+                    System.arraycopy(common[i], 0, grown[i], 0, common.length);
+                }
+                common = grown;
+            }
+        } else {
+            index = freeIndexes.poll();
+        }
+        vertexIndex.put(vertex, index);
+
+        mus.add(0, vertexCount);
+        degrees.add(0, 1);
+        vertexCount++;
+    }
+
+    private void removeVertex(Object vertex) {
+        int index = vertexIndex.get(vertex);
+        for (Object edge : new ArrayList<>(incidentEdges.get(index))) {
+            disconnect(edge);
+        }
+        vertexIndex.remove(vertex);
+        freeIndexes.add(index);
+
+        vertexCount--;
+        mus.remove(0, vertexCount);
+        degrees.remove(0, 1);
+    }
+
+    private void connect(Object edge, Object[] ends) {
+        int u = vertexIndex.get(ends[0]);
+        int v = vertexIndex.get(ends[1]);
+        edgeEnds.put(edge, ends);
+        incidentEdges.get(u).add(edge);
+        incidentEdges.get(v).add(edge);
+
+        int multiplicity = neighbors.get(u).getOrDefault(v, 0);
+        neighbors.get(u).put(v, multiplicity + 1);
+        neighbors.get(v).put(u, multiplicity + 1);
+        if (multiplicity > 0) {
+            return;
+        }
+
+        mus.remove(common[u][v], 1);
+        lambdas.add(common[u][v], 1);
+        shiftCommon(u, v, 1);
+        shiftCommon(v, u, 1);
+        degrees.move(neighbors.get(u).size() - 1, neighbors.get(u).size());
+        degrees.move(neighbors.get(v).size() - 1, neighbors.get(v).size());
+    }
+
+    private void disconnect(Object edge) {
+        Object[] ends = edgeEnds.remove(edge);
+        int u = vertexIndex.get(ends[0]);
+        int v = vertexIndex.get(ends[1]);
+        incidentEdges.get(u).remove(edge);
+        incidentEdges.get(v).remove(edge);
+
+        int multiplicity = neighbors.get(u).get(v);
+        if (multiplicity > 1) {
+            neighbors.get(u).put(v, multiplicity - 1);
+            neighbors.get(v).put(u, multiplicity - 1);
+            return;
+        }
+
+        neighbors.get(u).remove(v);
+        neighbors.get(v).remove(u);
+        shiftCommon(u, v, -1);
+        shiftCommon(v, u, -1);
+        lambdas.remove(common[u][v], 1);
+        mus.add(common[u][v], 1);
+        degrees.move(neighbors.get(u).size() + 1, neighbors.get(u).size());
+        degrees.move(neighbors.get(v).size() + 1, neighbors.get(v).size());
+    }
+
+    /**
+     * Метод изменяет число общих соседей вершины target со всеми соседями вершины peak
+     * (кроме самой target), так как peak стала или перестала быть их общим соседом
+     * @param peak вершина, у которой появился или пропал сосед target
+     * @param target новый или удалённый сосед
+     * @param delta +1 при добавлении ребра, -1 при удалении*/
+    private void shiftCommon(int peak, int target, int delta) {
+        HashMap<Integer, Integer> targetNeighbors = neighbors.get(target);
+        for (int other : neighbors.get(peak).keySet()) {
+            if (other == target) {
+                continue;
+            }
+            int before = common[target][other];
+            common[target][other] = before + delta;
+            common[other][target] = before + delta;
+            if (targetNeighbors.containsKey(other)) {
+                lambdas.move(before, before + delta);
+            } else {
+                mus.move(before, before + delta);
+            }
+        }
+    }
+}
@@ -0,0 +1,140 @@
+package graph.algorithm;
+
+import com.google.common.graph.MutableGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.logging.Logger;
+
+/**
+ * Класс проверяет изоморфизм двух графов. Обе вершины-множества
+ * раскрашиваются совместно (colour refinement), после чего выполняется
+ * поиск с индивидуализацией вершин и повторным уточнением раскраски.
+ * Ветви, в которых гистограммы цветов графов различаются, отсекаются*/
+public class IsomorphismChecker {
+
+    private static final Logger logger = Logger.getLogger(IsomorphismChecker.class.getName());
+
+    /**
+     * Метод проверяет, изоморфны ли два графа
+     * @param graph1 первый граф
+     * @param graph2 второй граф
+     * @return Возвращает true, если графы изоморфны, если иначе — false*/
+    public static boolean areIsomorphic(@NotNull MutableGraph<String> graph1, @NotNull MutableGraph<String> graph2) {
+        if (graph1.nodes().size() != graph2.nodes().size() || graph1.edges().size() != graph2.edges().size()) {
+            return false;
+        }
+        return areIsomorphic(CsrGraph.of(graph1), CsrGraph.of(graph2));
+    }
+
+    /**
+     * Метод проверяет, изоморфны ли два CSR-графа
+     * @param graph1 первый граф
+     * @param graph2 второй граф
+     * @return Возвращает true, если графы изоморфны, если иначе — false*/
+    public static boolean areIsomorphic(@NotNull CsrGraph graph1, @NotNull CsrGraph graph2) {
+        int n = graph1.size();
+        if (n != graph2.size() || graph1.edgeCount() != graph2.edgeCount()) {
+            return false;
+        }
+        if (n == 0) {
+            return true;
+        }
+        if (!Fingerprint.of(graph1).equals(Fingerprint.of(graph2))) {
+            return false;
+        }
+
+        CsrGraph union = CsrGraph.union(graph1, graph2);
+
+        int[] colors = new int[2 * n];
+        int count = PartitionRefiner.refine(union, colors);
+        long[] nodes = {0};
+        boolean result = search(union, n, colors, count, nodes);
+        logger.info("Поиск изоморфизма: узлов дерева поиска " + nodes[0] + ", результат " + result);
+        return result;
+    }
+
+    /**
+     * Метод рекурсивного поиска с индивидуализацией и уточнением
+     * @param union объединение двух графов
+     * @param n количество вершин каждого графа
+     * @param colors устойчивая раскраска объединения
+     * @param count количество цветов
+     * @param nodes счётчик пройденных узлов дерева поиска
+     * @return Возвращает true, если найден изоморфизм, если иначе — false*/
+    private static boolean search(CsrGraph union, int n, int[] colors, int count, long[] nodes) {
+        nodes[0]++;
+        int[] sizes = new int[count];
+        for (int v = 0; v < n; v++) {
+            sizes[colors[v]]++;
+        }
+        for (int v = n; v < 2 * n; v++) {
+            sizes[colors[v]]--;
+        }
+        for (int size : sizes) {
+            if (size != 0) {
+                return false;
+            }
+        }
+
+        if (count == n) {
+            return isIsomorphism(union, n, colors);
+        }
+
+        int[] cellSizes = new int[count];
+        for (int v = 0; v < n; v++) {
+            cellSizes[colors[v]]++;
+        }
+        int target = -1;
+        for (int color = 0; color < count; color++) {
+            if (cellSizes[color] > 1 && (target == -1 || cellSizes[color] < cellSizes[target])) {
+                target = color;
+            }
+        }
+
+        int peak = -1;
+        for (int v = 0; v < n && peak == -1; v++) {
+            if (colors[v] == target) {
+                peak = v;
+            }
+        }
+
+        for (int candidate = n; candidate < 2 * n; candidate++) {
+            if (colors[candidate] != target) {
+                continue;
+            }
+            int[] branch = colors.clone();
+            branch[peak] = count;
+            branch[candidate] = count;
+            int branchCount = PartitionRefiner.refine(union, branch);
+            if (search(union, n, branch, branchCount, nodes)) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Метод проверяет, что дискретная раскраска задаёт изоморфизм
+     * @param union объединение двух графов
+     * @param n количество вершин каждого графа
+     * @param colors дискретная раскраска объединения
+     * @return Возвращает true, если соответствие вершин одного цвета — изоморфизм*/
+    private static boolean isIsomorphism(CsrGraph union, int n, int[] colors) {
+        int[] byColor = new int[n];
+        for (int v = n; v < 2 * n; v++) {
+            byColor[colors[v]] = v;
+        }
+        for (int v = 0; v < n; v++) {
+            int image = byColor[colors[v]];
+            if (union.degree(v) != union.degree(image)) {
+                return false;
+            }
+            for (int i = union.start(v); i < union.end(v); i++) {
+                if (!union.isAdjacent(image, byColor[colors[union.target(i)]])) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+}
@@ -0,0 +1,88 @@
+package graph.algorithm;
+
+import com.google.common.hash.HashCode;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+import java.util.stream.Collectors;
+
+/**
+ * Класс разбивает набор графов на классы изоморфизма.
+ * Сначала графы группируются по отпечаткам, и графы с уникальным отпечатком
+ * сразу образуют отдельный класс. Для остальных вычисляется канонический хэш,
+ * по которому и определяется класс. Вычисления распределяются по пулу
+ * с перехватом работы (work stealing)*/
+public class IsomorphismClasses {
+
+    private static final Logger logger = Logger.getLogger(IsomorphismClasses.class.getName());
+
+    /**
+     * Метод разбивает графы на классы изоморфизма в общем пуле потоков
+     * @param graphs графы по именам
+     * @param progress получает количество обработанных графов
+     * @return Возвращает список классов, каждый из которых — список имён графов
+     * @throws InterruptedException если поток был прерван во время ожидания*/
+    public static List<List<String>> of(@NotNull Map<String, mxGraph> graphs, @NotNull IntConsumer progress)
+            throws InterruptedException {
+        return of(graphs, ForkJoinPool.commonPool(), progress);
+    }
+
+    /**
+     * Метод разбивает графы на классы изоморфизма
+     * @param graphs графы по именам
+     * @param pool пул потоков для вычислений
+     * @param progress получает количество обработанных графов
+     * @return Возвращает список классов, каждый из которых — список имён графов
+     * @throws InterruptedException если поток был прерван во время ожидания*/
+    public static List<List<String>> of(@NotNull Map<String, mxGraph> graphs, @NotNull ForkJoinPool pool,
+                                        @NotNull IntConsumer progress) throws InterruptedException {
+        List<String> names = new ArrayList<>(graphs.keySet());
+        AtomicInteger processed = new AtomicInteger();
+        try {
+            Map<Fingerprint, List<String>> byFingerprint = pool.submit(() -> names.parallelStream()
+                    .collect(Collectors.groupingByConcurrent(name -> Fingerprint.of(graphs.get(name))))).get();
+
+            List<List<String>> classes = new ArrayList<>();
+            List<String> ambiguous = new ArrayList<>();
+            for (List<String> bucket : byFingerprint.values()) {
+                if (bucket.size() == 1) {
+                    classes.add(new ArrayList<>(bucket));
+                    progress.accept(processed.incrementAndGet());
+                } else {
+                    ambiguous.addAll(bucket);
+                }
+            }
+
+            Map<HashCode, List<String>> byHash = pool.submit(() -> ambiguous.parallelStream()
+                    .collect(Collectors.groupingByConcurrent(name -> {
+                        HashCode hash = CanonicalForm.of(graphs.get(name)).getHash();
+                        progress.accept(processed.incrementAndGet());
+                        return hash;
+                    }))).get();
+            for (List<String> group : byHash.values()) {
+                classes.add(new ArrayList<>(group));
+            }
+
+            HashMap<String, Integer> position = new HashMap<>();
+            for (int i = 0; i < names.size(); i++) {
+                position.put(names.get(i), i);
+            }
+            Comparator<String> order = Comparator.comparingInt(position::get);
+            for (List<String> group : classes) {
+                group.sort(order);
+            }
+            classes.sort(Comparator.comparing(group -> group.get(0), order));
+            logger.info("Графов: " + names.size() + ", классов изоморфизма: " + classes.size()
+                    + ", канонических форм вычислено: " + ambiguous.size());
+            return classes;
+        } catch (ExecutionException e) {
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+}
@@ -0,0 +1,163 @@
+package graph.algorithm;
+
+import com.mxgraph.model.mxGeometry;
+import com.mxgraph.model.mxIGraphModel;
+import com.mxgraph.view.mxGraph;
+import org.jetbrains.annotations.NotNull;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Класс кэша укладки: координаты вершин сохраняются рядом с файлом графа
+ * в файле с расширением {@link #EXTENSION}. Для всего графа и для каждой вершины
+ * хранится хэш содержимого (вершина определяется номером и множеством соседей),
+ * поэтому при открытии изменённого графа восстанавливаются координаты
+ * только тех вершин, чьё окружение не изменилось.
+ * Вершины нумеруются с единицы в том же порядке, что и в файле DOT*/
+public final class LayoutCache {
+
+    public static final String EXTENSION = ".layout";
+
+    private static final Logger logger = Logger.getLogger(LayoutCache.class.getName());
+    private static final String HEADER = "graph-layout 1";
+
+    private LayoutCache() {
+    }
+
+    /**
+     * Метод возвращает путь к файлу укладки для файла графа
+     * @param file файл графа
+     * @return Возвращает путь к файлу укладки*/
+    public static Path sidecar(@NotNull Path file) {
+        return file.resolveSibling(file.getFileName() + EXTENSION);
+    }
+
+    /**
+     * Метод сохраняет координаты центров вершин JGraph-графа рядом с файлом графа.
+     * Вершины перечисляются в том же порядке, что и в CSR-графе {@link CsrGraph#of(mxGraph)}:
+     * по порядку ячеек холста, по одной вершине на надпись
+     * @param file файл графа
+     * @param graph JGraph-граф
+     * @throws IOException если файл укладки не записан*/
+    public static void save(@NotNull Path file, @NotNull mxGraph graph) throws IOException {
+        CsrGraph csr = CsrGraph.of(graph);
+        mxIGraphModel model = graph.getModel();
+        Object parent = graph.getDefaultParent();
+        HashSet<String> labels = new HashSet<>();
+        double[] x = new double[csr.size()];
+        double[] y = new double[csr.size()];
+        int v = 0;
+        for (int i = 0; i < model.getChildCount(parent) && v < csr.size(); i++) {
+            Object cell = model.getChildAt(parent, i);
+            if (model.isVertex(cell) && model.getValue(cell) != null && labels.add(model.getValue(cell).toString())) {
+                mxGeometry geometry = model.getGeometry(cell);
+                x[v] = geometry.getCenterX();
+                y[v++] = geometry.getCenterY();
+            }
+        }
+
+        long[] hashes = vertexHashes(csr);
+        StringBuilder line = new StringBuilder();
+        try (Writer writer = Files.newBufferedWriter(sidecar(file), StandardCharsets.UTF_8)) {
+            writer.write(HEADER + "\n");
+            writer.write(Long.toHexString(graphHash(hashes)) + " " + csr.size() + "\n");
+            for (v = 0; v < csr.size(); v++) {
+                line.setLength(0);
+                line.append(v + 1).append(' ').append(x[v]).append(' ').append(y[v]).append(' ')
+                        .append(Long.toHexString(hashes[v])).append('\n');
+                writer.write(line.toString());
+            }
+        }
+    }
+
+    /**
+     * Метод восстанавливает сохранённые координаты центров вершин CSR-графа.
+     * Координаты вершины восстанавливаются, если у неё тот же номер и те же соседи,
+     * что и при сохранении. Отсутствующий или повреждённый файл укладки
+     * означает, что ни одна вершина не восстановлена
+     * @param file файл графа
+     * @param graph CSR-граф, прочитанный из файла графа
+     * @param position массивы координат x и y, в которые записываются восстановленные координаты
+     * @return Возвращает индексы вершин, координаты которых не восстановлены*/
+    public static int[] load(@NotNull Path file, @NotNull CsrGraph graph, @NotNull double[][] position) {
+        long[] hashes = vertexHashes(graph);
+        boolean[] restored = new boolean[graph.size()];
+        try (BufferedReader reader = Files.newBufferedReader(sidecar(file), StandardCharsets.UTF_8)) {
+            if (!HEADER.equals(reader.readLine())) {
+                throw new IOException("Неизвестный формат файла укладки");
+            }
+            String[] summary = Objects.requireNonNull(reader.readLine(), "Нет хэша графа").split(" ");
+            boolean same = Long.parseUnsignedLong(summary[0], 16) == graphHash(hashes)
+                    && Integer.parseInt(summary[1]) == graph.size();
+
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String[] tokens = line.split(" ");
+                int v = Integer.parseInt(tokens[0]) - 1;
+                if (v >= 0 && v < graph.size() && (same || Long.parseUnsignedLong(tokens[3], 16) == hashes[v])) {
+                    position[0][v] = Double.parseDouble(tokens[1]);
+                    position[1][v] = Double.parseDouble(tokens[2]);
+                    restored[v] = true;
+                }
+            }
+        } catch (NoSuchFileException e) {
+            logger.info("Файл укладки для " + file.getFileName() + " не найден");
+        } catch (IOException | RuntimeException e) {
+            logger.warning("Файл укладки для " + file.getFileName() + " не прочитан: " + e);
+            Arrays.fill(restored, false);
+        }
+
+        int[] missing = new int[graph.size()];
+        int count = 0;
+        for (int v = 0; v < graph.size(); v++) {
+            if (!restored[v]) {
+                missing[count++] = v;
+            }
+        }
+        logger.info("Из файла укладки восстановлено " + (graph.size() - count) + " из " + graph.size() + " вершин");
+        return Arrays.copyOf(missing, count);
+    }
+
+    /**
+     * Метод вычисляет хэши вершин: хэш зависит от номера вершины и множества
+     * номеров её соседей, но не от порядка соседей в CSR-графе
+     * @param graph CSR-граф
+     * @return Возвращает массив хэшей вершин*/
+    private static long[] vertexHashes(CsrGraph graph) {
+        long[] hashes = new long[graph.size()];
+        for (int v = 0; v < graph.size(); v++) {
+            long hash = mix(v + 1);
+            for (int i = graph.start(v); i < graph.end(v); i++) {
+                hash += mix(((long) (v + 1) << 32) ^ (graph.target(i) + 1));
+            }
+            hashes[v] = mix(hash);
+        }
+        return hashes;
+    }
+
+    private static long graphHash(long[] hashes) {
+        long hash = mix(hashes.length);
+        for (long vertexHash : hashes) {
+            hash += vertexHash;
+        }
+        return mix(hash);
+    }
+
+    /**
+     * Метод перемешивает биты числа (финализатор SplitMix64)
+     * @param value число
+     * @return Возвращает перемешанное число*/
+    private static long mix(long value) {
+        value = (value ^ (value >>> 30)) * 0xbf58476d1ce4e5b9L;
+        value = (value ^ (value >>> 27)) * 0x94d049bb133111ebL;
+        return value ^ (value >>> 31);
+    }
+}
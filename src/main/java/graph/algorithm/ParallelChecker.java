@@ -0,0 +1,174 @@
+package graph.algorithm;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.logging.Logger;
+
+/**
+ * Класс выполняет проверку сильной регулярности графа параллельно:
+ * диапазон строк матрицы смежности делится на задачи fork/join,
+ * каждая из которых считает общих соседей для своих строк*/
+public class ParallelChecker {
+
+    private static final Logger logger = Logger.getLogger(ParallelChecker.class.getName());
+
+    /**
+     * Класс хранит минимальные и максимальные значения степени,
+     * параметров lambda и mu, найденные в диапазоне строк*/
+    private static class CountRange {
+        private int minDegree = Integer.MAX_VALUE;
+        private int maxDegree = Integer.MIN_VALUE;
+        private int minLambda = Integer.MAX_VALUE;
+        private int maxLambda = Integer.MIN_VALUE;
+        private int minMU = Integer.MAX_VALUE;
+        private int maxMU = Integer.MIN_VALUE;
+
+        private void addDegree(int value) {
+            minDegree = Math.min(minDegree, value);
+            maxDegree = Math.max(maxDegree, value);
+        }
+
+        private void addLambda(int value) {
+            minLambda = Math.min(minLambda, value);
+            maxLambda = Math.max(maxLambda, value);
+        }
+
+        private void addMU(int value) {
+            minMU = Math.min(minMU, value);
+            maxMU = Math.max(maxMU, value);
+        }
+
+        private CountRange merge(CountRange other) {
+            minDegree = Math.min(minDegree, other.minDegree);
+            maxDegree = Math.max(maxDegree, other.maxDegree);
+            minLambda = Math.min(minLambda, other.minLambda);
+            maxLambda = Math.max(maxLambda, other.maxLambda);
+            minMU = Math.min(minMU, other.minMU);
+            maxMU = Math.max(maxMU, other.maxMU);
+            return this;
+        }
+    }
+
+    /**
+     * Класс задачи, проверяющей строки матрицы смежности с from по to (не включая)*/
+    private static class RowTask extends RecursiveTask<CountRange> {
+        private static final long serialVersionUID = 1L;
+        private final AdjacencyBitMatrix matrix;
+        private final int from;
+        private final int to;
+        private final int leafSize;
+        private final int[] reference;
+        private final AtomicBoolean cancelled;
+        private final AtomicReference<Checker.Violation> violation;
+
+        private RowTask(AdjacencyBitMatrix matrix, int from, int to, int leafSize, int[] reference,
+                        AtomicBoolean cancelled, AtomicReference<Checker.Violation> violation) {
+            this.matrix = matrix;
+            this.from = from;
+            this.to = to;
+            this.leafSize = leafSize;
+            this.reference = reference;
+            this.cancelled = cancelled;
+            this.violation = violation;
+        }
+
+        @Override
+        protected CountRange compute() {
+            if (to - from > leafSize) {
+                int middle = (from + to) >>> 1;
+                RowTask left = new RowTask(matrix, from, middle, leafSize, reference, cancelled, violation);
+                RowTask right = new RowTask(matrix, middle, to, leafSize, reference, cancelled, violation);
+                left.fork();
+                CountRange rightRange = right.compute();
+                return left.join().merge(rightRange);
+            }
+
+            CountRange range = new CountRange();
+            for (int peak = from; peak < to && !cancelled.get(); peak++) {
+                int degree = matrix.degree(peak);
+                range.addDegree(degree);
+                if (degree != reference[0]) {
+                    cancel(new Checker.Violation(Checker.Violation.Kind.DEGREE, matrix.label(peak), matrix.label(peak),
+                            false, reference[0], degree));
+                    break;
+                }
+                for (int other = peak + 1; other < matrix.size(); other++) {
+                    int numCommonNeighbors = matrix.commonNeighbors(peak, other);
+                    if (matrix.isAdjacent(peak, other)) {
+                        range.addLambda(numCommonNeighbors);
+                        if (numCommonNeighbors != reference[1]) {
+                            cancel(new Checker.Violation(Checker.Violation.Kind.LAMBDA, matrix.label(peak),
+                                    matrix.label(other), true, reference[1], numCommonNeighbors));
+                            break;
+                        }
+                    } else {
+                        range.addMU(numCommonNeighbors);
+                        if (numCommonNeighbors != reference[2]) {
+                            cancel(new Checker.Violation(Checker.Violation.Kind.MU, matrix.label(peak),
+                                    matrix.label(other), false, reference[2], numCommonNeighbors));
+                            break;
+                        }
+                    }
+                }
+            }
+            return range;
+        }
+
+        private void cancel(Checker.Violation found) {
+            violation.compareAndSet(null, found);
+            cancelled.set(true);
+        }
+    }
+
+    /**
+     * Метод вычисляет эталонные значения степени, lambda и mu по первой вершине графа
+     * @param matrix Битовая матрица смежности
+     * @return Возвращает массив {k, lambda, mu}, где -1 означает, что значение не определено*/
+    static int[] getReference(AdjacencyBitMatrix matrix) {
+        int[] reference = {matrix.degree(0), -1, -1};
+
+        for (int other = 1; other < matrix.size() && (reference[1] == -1 || reference[2] == -1); other++) {
+            if (matrix.isAdjacent(0, other)) {
+                if (reference[1] == -1) {
+                    reference[1] = matrix.commonNeighbors(0, other);
+                }
+            } else if (reference[2] == -1) {
+                reference[2] = matrix.commonNeighbors(0, other);
+            }
+        }
+        return reference;
+    }
+
+    /**
+     * Метод параллельно вычисляет параметры (n, k, lambda, mu) графа.
+     * При первом найденном нарушении все задачи прекращают работу
+     * @param matrix Битовая матрица смежности проверяемого графа
+     * @return Возвращает параметры графа вместе со статусом проверки*/
+    public static SrgParameters getParameters(@NotNull AdjacencyBitMatrix matrix) {
+        int n = matrix.size();
+        if (n == 0) {
+            return Checker.classify(0, 0, -1, -1);
+        }
+
+        ForkJoinPool pool = ForkJoinPool.commonPool();
+        int leafSize = Math.max(1, n / (pool.getParallelism() * 16));
+        int[] reference = getReference(matrix);
+        AtomicBoolean cancelled = new AtomicBoolean(false);
+        AtomicReference<Checker.Violation> violation = new AtomicReference<>();
+
+        CountRange range = pool.invoke(new RowTask(matrix, 0, n, leafSize, reference, cancelled, violation));
+
+        if (violation.get() != null) {
+            logger.info("Параллельная проверка остановлена: " + violation.get());
+            return new SrgParameters(SrgParameters.Status.NOT_STRONGLY_REGULAR, n, reference[0],
+                    reference[1], reference[2], violation.get());
+        }
+        return Checker.classify(n, range.maxDegree,
+                range.minLambda == Integer.MAX_VALUE ? -1 : range.minLambda,
+                range.minMU == Integer.MAX_VALUE ? -1 : range.minMU);
+    }
+}
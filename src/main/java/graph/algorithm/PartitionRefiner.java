@@ -0,0 +1,63 @@
+package graph.algorithm;
+
+import java.util.*;
+
+/**
+ * Класс уточнения раскраски вершин (colour refinement): цвет вершины
+ * заменяется рангом пары "старый цвет — мультимножество цветов соседей"
+ * до тех пор, пока число цветов растёт. Номера цветов зависят только от
+ * структуры графа, поэтому результат одинаков для изоморфных графов*/
+final class PartitionRefiner {
+
+    private PartitionRefiner() {
+    }
+
+    /**
+     * Метод уточняет раскраску до устойчивой (эквитабельной)
+     * @param graph граф
+     * @param colors цвета вершин, изменяются на месте
+     * @return Возвращает количество цветов устойчивой раскраски*/
+    static int refine(CsrGraph graph, int[] colors) {
+        int n = colors.length;
+        int count = countColors(colors);
+        int[][] signatures = new int[n][];
+        Integer[] order = new Integer[n];
+
+        while (true) {
+            for (int v = 0; v < n; v++) {
+                int start = graph.start(v);
+                int[] signature = new int[graph.degree(v) + 1];
+                for (int i = start; i < graph.end(v); i++) {
+                    signature[i - start + 1] = colors[graph.target(i)];
+                }
+                Arrays.sort(signature, 1, signature.length);
+                signature[0] = colors[v];
+                signatures[v] = signature;
+                order[v] = v;
+            }
+            Arrays.sort(order, (a, b) -> Arrays.compare(signatures[a], signatures[b]));
+
+            int rank = 0;
+            colors[order[0]] = 0;
+            for (int i = 1; i < n; i++) {
+                if (!Arrays.equals(signatures[order[i]], signatures[order[i - 1]])) {
+                    rank++;
+                }
+                colors[order[i]] = rank;
+            }
+
+            if (rank + 1 == count) {
+                return count;
+            }
+            count = rank + 1;
+        }
+    }
+
+    /**
+     * Метод подсчитывает количество различных цветов
+     * @param colors цвета вершин
+     * @return Возвращает количество различных цветов*/
+    static int countColors(int[] colors) {
+        return (int) Arrays.stream(colors).distinct().count();
+    }
+}
@@ -0,0 +1,338 @@
+package graph.algorithm;
+
+import com.mxgraph.model.mxGeometry;
+import com.mxgraph.model.mxGraphModel;
+import com.mxgraph.model.mxIGraphModel;
+import com.mxgraph.util.mxEvent;
+import com.mxgraph.util.mxEventObject;
+import com.mxgraph.util.mxEventSource;
+import com.mxgraph.util.mxPoint;
+import com.mxgraph.util.mxRectangle;
+import com.mxgraph.util.mxUndoableEdit;
+import com.mxgraph.view.mxCellState;
+import com.mxgraph.view.mxGraph;
+import com.mxgraph.view.mxGraphView;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.*;
+import java.util.logging.Logger;
+
+/**
+ * Класс пространственного индекса ячеек JGraph-графа: свободное квадродерево
+ * по границам вершин и рёбер в координатах модели (без масштаба и сдвига вида).
+ * Границы ячейки берутся из её состояния на холсте вместе с надписью, поэтому
+ * не зависят от масштаба и совпадают с областью, по которой холст ищет ячейку под курсором.
+ * Ячейка хранится в самом глубоком узле, размер которого не меньше её размера,
+ * а узел отвечает за свой квадрат, расширенный на половину стороны с каждой стороны,
+ * поэтому длинные рёбра не дробятся и не дублируются. Индекс слушает изменения
+ * модели и обновляет только затронутые ячейки: вершину при изменении её геометрии
+ * вместе с инцидентными рёбрами, ребро при изменении концов, ячейку при изменении
+ * надписи или стиля. Индексируются
+ * непосредственные потомки слоя по умолчанию*/
+public class SpatialIndex {
+
+    /**
+     * Класс записи индекса: ячейка, её границы и порядковый номер,
+     * задающий порядок рисования*/
+    private static final class Entry {
+        private final Object cell;
+        private long order;
+        private double minX;
+        private double minY;
+        private double maxX;
+        private double maxY;
+        private Node node;
+
+        private Entry(Object cell) {
+            this.cell = cell;
+        }
+    }
+
+    /**
+     * Класс узла квадродерева: квадрат со стороной size и левым верхним углом (x, y)*/
+    private static final class Node {
+        private final double x;
+        private final double y;
+        private final double size;
+        private Node[] children;
+        private final ArrayList<Entry> entries = new ArrayList<>(2);
+
+        private Node(double x, double y, double size) {
+            this.x = x;
+            this.y = y;
+            this.size = size;
+        }
+
+        private Node child(int quadrant) {
+            if (children == null) {
+                children = new Node[4];
+            }
+            if (children[quadrant] == null) {
+                double half = size / 2;
+                children[quadrant] = new Node(x + (quadrant & 1) * half, y + (quadrant >> 1) * half, half);
+            }
+            return children[quadrant];
+        }
+
+        private int quadrant(double px, double py) {
+            return (px < x + size / 2 ? 0 : 1) + (py < y + size / 2 ? 0 : 2);
+        }
+
+        private boolean contains(double px, double py) {
+            return px >= x && px < x + size && py >= y && py < y + size;
+        }
+
+        private boolean looselyIntersects(double minX, double minY, double maxX, double maxY) {
+            double margin = size / 2;
+            return minX <= x + size + margin && maxX >= x - margin && minY <= y + size + margin && maxY >= y - margin;
+        }
+    }
+
+    private static final Logger logger = Logger.getLogger(SpatialIndex.class.getName());
+    private static final double MIN_NODE_SIZE = 8;
+    private static final double MIN_ROOT_SIZE = 64;
+
+    private final mxGraph graph;
+    private final mxEventSource.mxIEventListener listener = this::modelChanged;
+    private final IdentityHashMap<Object, Entry> entries = new IdentityHashMap<>();
+    private Node root;
+    private long nextOrder;
+
+    /**
+     * Создаёт индекс по текущему состоянию графа и подписывается на изменения его модели
+     * @param graph JGraph-граф*/
+    public SpatialIndex(@NotNull mxGraph graph) {
+        this.graph = graph;
+        rebuild();
+        graph.getModel().addListener(mxEvent.CHANGE, listener);
+    }
+
+    /**
+     * Метод отписывает индекс от изменений модели графа*/
+    public void dispose() {
+        graph.getModel().removeListener(listener);
+    }
+
+    /**
+     * Метод возвращает количество ячеек в индексе
+     * @return Возвращает количество ячеек*/
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Метод находит ячейки, границы которых пересекают прямоугольник.
+     * Ячейки возвращаются в порядке добавления в граф, то есть в порядке рисования
+     * @param minX левая граница прямоугольника в координатах модели
+     * @param minY верхняя граница прямоугольника в координатах модели
+     * @param maxX правая граница прямоугольника в координатах модели
+     * @param maxY нижняя граница прямоугольника в координатах модели
+     * @return Возвращает список ячеек*/
+    public List<Object> query(double minX, double minY, double maxX, double maxY) {
+        ArrayList<Entry> found = new ArrayList<>();
+        if (root != null) {
+            ArrayDeque<Node> stack = new ArrayDeque<>();
+            stack.push(root);
+            while (!stack.isEmpty()) {
+                Node node = stack.pop();
+                for (Entry entry : node.entries) {
+                    if (entry.minX <= maxX && entry.maxX >= minX && entry.minY <= maxY && entry.maxY >= minY) {
+                        found.add(entry);
+                    }
+                }
+                if (node.children != null) {
+                    for (Node child : node.children) {
+                        if (child != null && child.looselyIntersects(minX, minY, maxX, maxY)) {
+                            stack.push(child);
+                        }
+                    }
+                }
+            }
+        }
+        found.sort(Comparator.comparingLong(entry -> entry.order));
+        ArrayList<Object> cells = new ArrayList<>(found.size());
+        for (Entry entry : found) {
+            cells.add(entry.cell);
+        }
+        return cells;
+    }
+
+    /**
+     * Метод обрабатывает событие изменения модели графа
+     * @param sender модель графа
+     * @param evt событие изменения*/
+    private void modelChanged(Object sender, mxEventObject evt) {
+        mxUndoableEdit edit = (mxUndoableEdit) evt.getProperty("edit");
+        if (edit == null) {
+            return;
+        }
+        mxIGraphModel model = graph.getModel();
+        LinkedHashSet<Object> touched = new LinkedHashSet<>();
+        for (mxUndoableEdit.mxUndoableChange change : edit.getChanges()) {
+            if (change instanceof mxGraphModel.mxRootChange) {
+                rebuild();
+                return;
+            }
+            if (change instanceof mxGraphModel.mxChildChange) {
+                touched.add(((mxGraphModel.mxChildChange) change).getChild());
+            } else if (change instanceof mxGraphModel.mxTerminalChange) {
+                touched.add(((mxGraphModel.mxTerminalChange) change).getCell());
+            } else if (change instanceof mxGraphModel.mxValueChange) {
+                touched.add(((mxGraphModel.mxValueChange) change).getCell());
+            } else if (change instanceof mxGraphModel.mxStyleChange) {
+                touched.add(((mxGraphModel.mxStyleChange) change).getCell());
+            } else if (change instanceof mxGraphModel.mxGeometryChange) {
+                Object cell = ((mxGraphModel.mxGeometryChange) change).getCell();
+                touched.add(cell);
+                for (int i = 0; i < model.getEdgeCount(cell); i++) {
+                    touched.add(model.getEdgeAt(cell, i));
+                }
+            }
+        }
+        for (Object cell : touched) {
+            update(cell);
+        }
+    }
+
+    /**
+     * Метод заново строит индекс по текущей модели графа*/
+    private void rebuild() {
+        entries.clear();
+        root = null;
+        nextOrder = 0;
+        mxIGraphModel model = graph.getModel();
+        Object parent = graph.getDefaultParent();
+        for (int i = 0; i < model.getChildCount(parent); i++) {
+            update(model.getChildAt(parent, i));
+        }
+        logger.info("Построен пространственный индекс по " + entries.size() + " ячейкам");
+    }
+
+    /**
+     * Метод добавляет, перемещает или удаляет ячейку в индексе по её текущему состоянию
+     * @param cell ячейка*/
+    private void update(Object cell) {
+        Entry entry = entries.get(cell);
+        if (entry != null) {
+            entry.node.entries.remove(entry);
+        }
+        double[] bounds = bounds(cell);
+        if (bounds == null) {
+            entries.remove(cell);
+            return;
+        }
+        if (entry == null) {
+            entry = new Entry(cell);
+            entry.order = nextOrder++;
+            entries.put(cell, entry);
+        }
+        entry.minX = bounds[0];
+        entry.minY = bounds[1];
+        entry.maxX = bounds[2];
+        entry.maxY = bounds[3];
+        insert(entry);
+    }
+
+    /**
+     * Метод вычисляет границы ячейки в координатах модели. Если у ячейки есть состояние
+     * на холсте, границы охватывают состояние и надпись. Иначе для вершины берётся
+     * её геометрия, для ребра — прямоугольник, охватывающий центры концов и промежуточные точки
+     * @param cell ячейка
+     * @return Возвращает массив {minX, minY, maxX, maxY} или null, если ячейка не индексируется*/
+    private double[] bounds(Object cell) {
+        mxIGraphModel model = graph.getModel();
+        if (!model.contains(cell) || model.getParent(cell) != graph.getDefaultParent()) {
+            return null;
+        }
+        mxGraphView view = graph.getView();
+        mxCellState state = view.getState(cell);
+        if (state != null) {
+            mxRectangle rect = new mxRectangle(state);
+            if (state.getLabelBounds() != null) {
+                rect.add(state.getLabelBounds());
+            }
+            double scale = view.getScale();
+            mxPoint translate = view.getTranslate();
+            return new double[]{rect.getX() / scale - translate.getX(), rect.getY() / scale - translate.getY(),
+                    (rect.getX() + rect.getWidth()) / scale - translate.getX(),
+                    (rect.getY() + rect.getHeight()) / scale - translate.getY()};
+        }
+        mxGeometry geometry = model.getGeometry(cell);
+        if (geometry == null) {
+            return null;
+        }
+        if (model.isVertex(cell)) {
+            return new double[]{geometry.getX(), geometry.getY(),
+                    geometry.getX() + geometry.getWidth(), geometry.getY() + geometry.getHeight()};
+        }
+        if (!model.isEdge(cell)) {
+            return null;
+        }
+
+        ArrayList<mxPoint> points = new ArrayList<>();
+        for (boolean source : new boolean[]{true, false}) {
+            Object terminal = model.getTerminal(cell, source);
+            mxGeometry terminalGeometry = terminal == null ? null : model.getGeometry(terminal);
+            if (terminalGeometry != null) {
+                points.add(new mxPoint(terminalGeometry.getCenterX(), terminalGeometry.getCenterY()));
+            } else if (geometry.getTerminalPoint(source) != null) {
+                points.add(geometry.getTerminalPoint(source));
+            }
+        }
+        if (geometry.getPoints() != null) {
+            points.addAll(geometry.getPoints());
+        }
+        if (points.isEmpty()) {
+            return null;
+        }
+        double[] bounds = {Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY,
+                Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY};
+        for (mxPoint point : points) {
+            bounds[0] = Math.min(bounds[0], point.getX());
+            bounds[1] = Math.min(bounds[1], point.getY());
+            bounds[2] = Math.max(bounds[2], point.getX());
+            bounds[3] = Math.max(bounds[3], point.getY());
+        }
+        return bounds;
+    }
+
+    /**
+     * Метод помещает запись в самый глубокий узел, сторона которого не меньше размера записи
+     * (и не меньше {@link #MIN_NODE_SIZE}) и квадрат которого содержит центр записи.
+     * Корень при необходимости расширяется
+     * @param entry запись*/
+    private void insert(Entry entry) {
+        double centerX = (entry.minX + entry.maxX) / 2;
+        double centerY = (entry.minY + entry.maxY) / 2;
+        double extent = Math.max(entry.maxX - entry.minX, entry.maxY - entry.minY);
+        if (root == null) {
+            double size = Math.max(MIN_ROOT_SIZE, 2 * extent);
+            root = new Node(centerX - size / 2, centerY - size / 2, size);
+        }
+        while (!root.contains(centerX, centerY) || root.size < extent) {
+            grow(centerX, centerY);
+        }
+
+        Node node = root;
+        while (node.size / 2 >= Math.max(extent, MIN_NODE_SIZE)) {
+            node = node.child(node.quadrant(centerX, centerY));
+        }
+        node.entries.add(entry);
+        entry.node = node;
+    }
+
+    /**
+     * Метод удваивает корень в сторону точки: старый корень становится
+     * одним из четырёх потомков нового
+     * @param px координата x точки
+     * @param py координата y точки*/
+    private void grow(double px, double py) {
+        double size = root.size;
+        double x = px < root.x ? root.x - size : root.x;
+        double y = py < root.y ? root.y - size : root.y;
+        Node grown = new Node(x, y, 2 * size);
+        grown.children = new Node[4];
+        grown.children[grown.quadrant(root.x + size / 2, root.y + size / 2)] = root;
+        root = grown;
+    }
+}
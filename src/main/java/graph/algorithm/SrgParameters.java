@@ -0,0 +1,88 @@
+package graph.algorithm;
+
+/**
+ * Класс хранит параметры (n, k, lambda, mu) проверенного графа
+ * и статус, определённый в ходе проверки.
+ * Неопределённый параметр (например mu у полного графа) равен -1*/
+public class SrgParameters {
+
+    public enum Status {
+        STRONGLY_REGULAR,
+        COMPLETE,
+        EMPTY,
+        DISCONNECTED,
+        NOT_STRONGLY_REGULAR
+    }
+
+    private final Status status;
+    private final int n;
+    private final int k;
+    private final int lambda;
+    private final int mu;
+    private final Checker.Violation violation;
+    private final String rejectedBy;
+
+    SrgParameters(Status status, int n, int k, int lambda, int mu, Checker.Violation violation) {
+        this(status, n, k, lambda, mu, violation, null);
+    }
+
+    SrgParameters(Status status, int n, int k, int lambda, int mu, Checker.Violation violation, String rejectedBy) {
+        this.status = status;
+        this.n = n;
+        this.k = k;
+        this.lambda = lambda;
+        this.mu = mu;
+        this.violation = violation;
+        this.rejectedBy = rejectedBy;
+    }
+
+    public Status getStatus() {
+        return status;
+    }
+
+    public int getN() {
+        return n;
+    }
+
+    public int getK() {
+        return k;
+    }
+
+    public int getLambda() {
+        return lambda;
+    }
+
+    public int getMu() {
+        return mu;
+    }
+
+    /**
+     * Метод возвращает контрпример сильной регулярности
+     * @return Возвращает контрпример или null, если граф сильно регулярен*/
+    public Checker.Violation getViolation() {
+        return violation;
+    }
+
+    /**
+     * Метод возвращает имя этапа предварительного фильтра, отклонившего граф.
+     * В этом случае контрпример не строится
+     * @return Возвращает имя этапа или null, если граф не был отклонён фильтром*/
+    public String getRejectedBy() {
+        return rejectedBy;
+    }
+
+    /**
+     * Метод проверяет, удовлетворяет ли граф определению сильно регулярного
+     * @return Возвращает true, если граф не отклонён и контрпример не найден, если иначе — false*/
+    public boolean isStronglyRegular() {
+        return status != Status.NOT_STRONGLY_REGULAR;
+    }
+
+    @Override
+    public String toString() {
+        if (rejectedBy != null) {
+            return status + " (" + n + ", " + k + ", " + lambda + ", " + mu + "), отклонён: " + rejectedBy;
+        }
+        return status + " (" + n + ", " + k + ", " + lambda + ", " + mu + ")";
+    }
+}
@@ -0,0 +1,132 @@
+package graph.my_interface;
+
+import org.jetbrains.annotations.NotNull;
+
+import javax.swing.*;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.ExecutionException;
+import java.util.function.Consumer;
+import java.util.function.IntConsumer;
+import java.util.logging.Logger;
+
+/**
+ * Класс фоновой задачи окна: работа выполняется в отдельном потоке,
+ * ход работы и результат передаются в поток обработки событий Swing.
+ * Отменённая задача прерывается при следующем сообщении о ходе работы,
+ * а её результат отбрасывается
+ * @param <T> тип результата задачи*/
+public class BackgroundTask<T> extends SwingWorker<T, Integer> {
+
+    /**
+     * Интерфейс работы, выполняемой в фоновом потоке
+     * @param <T> тип результата работы*/
+    @FunctionalInterface
+    public interface Work<T> {
+        /**
+         * Метод выполняет работу
+         * @param progress приёмник хода работы: количество выполненных шагов
+         * @return Возвращает результат работы
+         * @throws Exception если работа не выполнена*/
+        T run(IntConsumer progress) throws Exception;
+    }
+
+    private static final Logger logger = Logger.getLogger(BackgroundTask.class.getName());
+    private final String name;
+    private final Work<T> work;
+    private Consumer<T> onSuccess = result -> {};
+    private Consumer<Throwable> onFailure = error -> {};
+    private IntConsumer onProgress = value -> {};
+    private Runnable onFinish = () -> {};
+
+    /**
+     * Создаёт фоновую задачу
+     * @param name имя задачи для журнала
+     * @param work работа, выполняемая в фоновом потоке*/
+    public BackgroundTask(@NotNull String name, @NotNull Work<T> work) {
+        this.name = name;
+        this.work = work;
+    }
+
+    /**
+     * Метод задаёт действие над результатом успешно выполненной задачи
+     * @param onSuccess действие, выполняемое в потоке обработки событий
+     * @return Возвращает эту же задачу*/
+    public BackgroundTask<T> onSuccess(@NotNull Consumer<T> onSuccess) {
+        this.onSuccess = onSuccess;
+        return this;
+    }
+
+    /**
+     * Метод задаёт действие при ошибке выполнения задачи
+     * @param onFailure действие, выполняемое в потоке обработки событий
+     * @return Возвращает эту же задачу*/
+    public BackgroundTask<T> onFailure(@NotNull Consumer<Throwable> onFailure) {
+        this.onFailure = onFailure;
+        return this;
+    }
+
+    /**
+     * Метод задаёт приёмник хода работы
+     * @param onProgress приёмник наибольшего из полученных значений,
+     *                   вызываемый в потоке обработки событий
+     * @return Возвращает эту же задачу*/
+    public BackgroundTask<T> onProgress(@NotNull IntConsumer onProgress) {
+        this.onProgress = onProgress;
+        return this;
+    }
+
+    /**
+     * Метод добавляет действие, выполняемое после завершения или отмены задачи
+     * раньше действий над результатом. Действия выполняются в порядке добавления
+     * @param onFinish действие, выполняемое в потоке обработки событий
+     * @return Возвращает эту же задачу*/
+    public BackgroundTask<T> onFinish(@NotNull Runnable onFinish) {
+        Runnable previous = this.onFinish;
+        this.onFinish = () -> {
+            previous.run();
+            onFinish.run();
+        };
+        return this;
+    }
+
+    @Override
+    protected T doInBackground() throws Exception {
+        long start = System.nanoTime();
+        T result = work.run(value -> {
+            if (isCancelled()) {
+                throw new CancellationException();
+            }
+            publish(value);
+        });
+        logger.info("Задача [" + name + "] выполнена за " + (System.nanoTime() - start) / 1_000_000 + " мс");
+        return result;
+    }
+
+    @Override
+    protected void process(List<Integer> chunks) {
+        onProgress.accept(Collections.max(chunks));
+    }
+
+    @Override
+    protected void done() {
+        onFinish.run();
+        if (isCancelled()) {
+            logger.info("Задача [" + name + "] отменена");
+            return;
+        }
+        T result;
+        try {
+            result = get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return;
+        } catch (ExecutionException e) {
+            logger.warning("Задача [" + name + "] не выполнена: " + e.getCause());
+            onFailure.accept(e.getCause());
+            return;
+        }
+        onSuccess.accept(result);
+    }
+}
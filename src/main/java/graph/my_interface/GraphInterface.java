@@ -6,9 +6,8 @@ package graph.my_interface;
 
 import com.google.common.graph.GraphBuilder;
 import com.google.common.graph.MutableGraph;
-import com.mxgraph.layout.mxCircleLayout;
-import com.mxgraph.layout.mxOrganicLayout;
 import com.mxgraph.model.mxCell;
+import com.mxgraph.model.mxIGraphModel;
 import com.mxgraph.swing.handler.mxGraphTransferHandler;
 import com.mxgraph.swing.mxGraphComponent;
 import com.mxgraph.swing.mxGraphComponent.mxGraphControl;
@@ -16,14 +15,19 @@ import com.mxgraph.util.*;
 import com.mxgraph.view.mxGraph;
 import com.mxgraph.view.mxGraphSelectionModel;
 import com.mxgraph.view.mxStylesheet;
+import graph.algorithm.CanonicalForm;
+import graph.algorithm.Checker;
 import graph.algorithm.CreatorGraphs;
-import org.jgrapht.Graph;
-import org.jgrapht.ext.JGraphXAdapter;
-import org.jgrapht.graph.SimpleGraph;
-import org.jgrapht.graph.guava.MutableGraphAdapter;
-import org.jgrapht.nio.dot.DOTExporter;
-import org.jgrapht.nio.dot.DOTImporter;
-import org.jgrapht.util.SupplierUtil;
+import graph.algorithm.CsrGraph;
+import graph.algorithm.FeasibilityFilter;
+import graph.algorithm.Fingerprint;
+import graph.algorithm.ForceLayout;
+import graph.algorithm.GeometryTransform;
+import graph.algorithm.IncrementalChecker;
+import graph.algorithm.IsomorphismChecker;
+import graph.algorithm.IsomorphismClasses;
+import graph.algorithm.LayoutCache;
+import graph.algorithm.SrgParameters;
 
 import javax.imageio.ImageIO;
 import javax.swing.*;
@@ -34,21 +38,25 @@ import java.awt.*;
 import java.awt.event.ActionEvent;
 import java.awt.event.MouseAdapter;
 import java.awt.event.MouseEvent;
+import java.awt.geom.AffineTransform;
 import java.awt.image.BufferedImage;
 import java.io.File;
 import java.io.IOException;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
 import java.util.List;
 import java.util.*;
+import java.util.function.IntConsumer;
 import java.util.logging.Logger;
 
-import static graph.algorithm.Checker.isStronglyRegularGraph;
-
 /**
  * @author david
  */
 public class GraphInterface extends javax.swing.JFrame {
 
-    //<editor-fold desc=" ">
+    //<editor-fold desc="Блок переменных">
     private static final Logger logger = Logger.getLogger(GraphInterface.class.getName());
     private final Hashtable<String, Object> style = new Hashtable<>();
     private final Hashtable<String, Object> style2 = new Hashtable<>();
@@ -60,6 +68,9 @@ public class GraphInterface extends javax.swing.JFrame {
     private HashMap<String, mxGraph> Graphs = new HashMap<>();
     private HashMap<String, mxGraphComponent> GraphsComponents = new HashMap<>();
     private HashMap<String, JTable> GraphsTables = new HashMap<>();
+    private HashMap<String, IncrementalChecker> GraphsCheckers = new HashMap<>();
+    private HashMap<String, HashSet<Object>> GraphsNewVertices = new HashMap<>();
+    private BackgroundTask<?> currentTask;
 
     private Object v1 = null;
     private Object v2 = null;
@@ -100,7 +111,7 @@ public class GraphInterface extends javax.swing.JFrame {
      * regenerated by the Form Editor.
      */
     /**
-     *     
+     * Инициализирует все графические компоненты интерфейса
      * */
     @SuppressWarnings("unchecked")
     // <editor-fold defaultstate="collapsed" desc="Generated Code">//GEN-BEGIN:initComponents
@@ -124,6 +135,7 @@ public class GraphInterface extends javax.swing.JFrame {
         CompareDialog = new javax.swing.JDialog();
         jPanel3 = new javax.swing.JPanel();
         CompareBtn = new javax.swing.JButton();
+        AllPairsBtn = new javax.swing.JButton();
         jLabel32 = new javax.swing.JLabel();
         jLabel33 = new javax.swing.JLabel();
         jLabel34 = new javax.swing.JLabel();
@@ -135,6 +147,7 @@ public class GraphInterface extends javax.swing.JFrame {
         jPanel6 = new javax.swing.JPanel();
         jProgressBar1 = new javax.swing.JProgressBar();
         messageLabel = new javax.swing.JLabel();
+        cancelTaskBtn = new javax.swing.JButton();
         MainPanel = new javax.swing.JPanel();
         MainTabbedPane = new javax.swing.JTabbedPane();
         jDesktopPane1 = new javax.swing.JDesktopPane();
@@ -177,7 +190,7 @@ public class GraphInterface extends javax.swing.JFrame {
         coordAnchorPoint = new javax.swing.JLabel();
         clearGraphBtn = new javax.swing.JButton();
         brightnessBtn = new javax.swing.JToggleButton();
-        standardolorBtn = new javax.swing.JButton();
+        standardСolorBtn = new javax.swing.JButton();
         hideLabelsBtn = new javax.swing.JToggleButton();
         jInternalFrame2 = new javax.swing.JInternalFrame();
         jPanel1 = new javax.swing.JPanel();
@@ -258,19 +271,19 @@ public class GraphInterface extends javax.swing.JFrame {
         jPanel2.setName("jPanel2"); // NOI18N
         jPanel2.setPreferredSize(new java.awt.Dimension(520, 380));
 
-        jLabel19.setIcon(new javax.swing.ImageIcon(getClass().getResource("/1.jpg"))); // NOI18N
+        jLabel19.setIcon(new javax.swing.ImageIcon(getClass().getResource("/часть1.jpg"))); // NOI18N
         jLabel19.setText(bundle.getString("GraphInterface.jLabel19.text")); // NOI18N
         jLabel19.setName("jLabel19"); // NOI18N
 
-        jLabel7.setIcon(new javax.swing.ImageIcon(getClass().getResource("/2.jpg"))); // NOI18N
+        jLabel7.setIcon(new javax.swing.ImageIcon(getClass().getResource("/часть2.jpg"))); // NOI18N
         jLabel7.setText(bundle.getString("GraphInterface.jLabel7.text")); // NOI18N
         jLabel7.setName("jLabel7"); // NOI18N
 
-        jLabel14.setIcon(new javax.swing.ImageIcon(getClass().getResource("/3.jpg"))); // NOI18N
+        jLabel14.setIcon(new javax.swing.ImageIcon(getClass().getResource("/часть3.jpg"))); // NOI18N
         jLabel14.setText(bundle.getString("GraphInterface.jLabel14.text")); // NOI18N
         jLabel14.setName("jLabel14"); // NOI18N
 
-        jLabel15.setIcon(new javax.swing.ImageIcon(getClass().getResource("/4.jpg"))); // NOI18N
+        jLabel15.setIcon(new javax.swing.ImageIcon(getClass().getResource("/часть4.jpg"))); // NOI18N
         jLabel15.setText(bundle.getString("GraphInterface.jLabel15.text")); // NOI18N
         jLabel15.setName("jLabel15"); // NOI18N
 
@@ -393,6 +406,14 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
+        AllPairsBtn.setText(bundle.getString("GraphInterface.AllPairsBtn.text")); // NOI18N
+        AllPairsBtn.setName("AllPairsBtn"); // NOI18N
+        AllPairsBtn.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                AllPairsBtnActionPerformed(evt);
+            }
+        });
+
         jLabel32.setFont(new java.awt.Font("Segoe UI", 2, 14)); // NOI18N
         jLabel32.setText(bundle.getString("GraphInterface.jLabel32.text")); // NOI18N
         jLabel32.setName("jLabel32"); // NOI18N
@@ -444,7 +465,9 @@ public class GraphInterface extends javax.swing.JFrame {
                                 .addGap(55, 55, 55)
                                 .addComponent(jScrollPane7, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
                                 .addGap(18, 18, 18)
-                                .addComponent(CompareBtn))
+                                .addGroup(jPanel3Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING, false)
+                                    .addComponent(CompareBtn, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                                    .addComponent(AllPairsBtn, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)))
                             .addGroup(jPanel3Layout.createSequentialGroup()
                                 .addGap(76, 76, 76)
                                 .addComponent(jLabel33)))
@@ -465,7 +488,9 @@ public class GraphInterface extends javax.swing.JFrame {
                 .addGroup(jPanel3Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
                     .addGroup(jPanel3Layout.createSequentialGroup()
                         .addGap(77, 77, 77)
-                        .addComponent(CompareBtn))
+                        .addComponent(CompareBtn)
+                        .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
+                        .addComponent(AllPairsBtn))
                     .addGroup(jPanel3Layout.createSequentialGroup()
                         .addGap(16, 16, 16)
                         .addGroup(jPanel3Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.BASELINE)
@@ -491,6 +516,7 @@ public class GraphInterface extends javax.swing.JFrame {
 
         processDialog.setTitle(bundle.getString("GraphInterface.processDialog.title")); // NOI18N
         processDialog.setMinimumSize(new java.awt.Dimension(350, 170));
+        processDialog.setModal(true);
         processDialog.setName("processDialog"); // NOI18N
         processDialog.setResizable(false);
         processDialog.setLocationRelativeTo(CompareDialog);
@@ -509,6 +535,14 @@ public class GraphInterface extends javax.swing.JFrame {
         messageLabel.setText(bundle.getString("GraphInterface.messageLabel.text")); // NOI18N
         messageLabel.setName("messageLabel"); // NOI18N
 
+        cancelTaskBtn.setText(bundle.getString("GraphInterface.cancelTaskBtn.text")); // NOI18N
+        cancelTaskBtn.setName("cancelTaskBtn"); // NOI18N
+        cancelTaskBtn.addActionListener(new java.awt.event.ActionListener() {
+            public void actionPerformed(java.awt.event.ActionEvent evt) {
+                cancelTaskBtnActionPerformed(evt);
+            }
+        });
+
         javax.swing.GroupLayout jPanel6Layout = new javax.swing.GroupLayout(jPanel6);
         jPanel6.setLayout(jPanel6Layout);
         jPanel6Layout.setHorizontalGroup(
@@ -521,15 +555,21 @@ public class GraphInterface extends javax.swing.JFrame {
                 .addGap(46, 46, 46)
                 .addComponent(messageLabel)
                 .addContainerGap(javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE))
+            .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, jPanel6Layout.createSequentialGroup()
+                .addContainerGap(javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
+                .addComponent(cancelTaskBtn)
+                .addGap(70, 70, 70))
         );
         jPanel6Layout.setVerticalGroup(
             jPanel6Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING)
             .addGroup(javax.swing.GroupLayout.Alignment.TRAILING, jPanel6Layout.createSequentialGroup()
-                .addContainerGap(49, Short.MAX_VALUE)
+                .addContainerGap(35, Short.MAX_VALUE)
                 .addComponent(messageLabel)
                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                 .addComponent(jProgressBar1, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                .addGap(75, 75, 75))
+                .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
+                .addComponent(cancelTaskBtn)
+                .addGap(30, 30, 30))
         );
 
         javax.swing.GroupLayout processDialogLayout = new javax.swing.GroupLayout(processDialog.getContentPane());
@@ -748,7 +788,7 @@ public class GraphInterface extends javax.swing.JFrame {
 
         jSeparator3.setName("jSeparator3"); // NOI18N
 
-        addPeakButton.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25 (5555555555555).png"))); // NOI18N
+        addPeakButton.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-насыщенность-25 (5555555555555).png"))); // NOI18N
         addPeakButton.setToolTipText(bundle.getString("GraphInterface.addPeakButton.toolTipText")); // NOI18N
         addPeakButton.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         addPeakButton.setName("addPeakButton"); // NOI18N
@@ -759,14 +799,14 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        addRibButton.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8---25.png"))); // NOI18N
+        addRibButton.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-ментальная-карта-25.png"))); // NOI18N
         addRibButton.setToolTipText(bundle.getString("GraphInterface.addRibButton.toolTipText")); // NOI18N
         addRibButton.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         addRibButton.setName("addRibButton"); // NOI18N
         addRibButton.setPreferredSize(new java.awt.Dimension(25, 25));
         addRibButton.addActionListener(this::addRibButtonActionPerformed);
 
-        removeButton.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25.png"))); // NOI18N
+        removeButton.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-отмена-25.png"))); // NOI18N
         removeButton.setToolTipText(bundle.getString("GraphInterface.removeButton.toolTipText")); // NOI18N
         removeButton.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         removeButton.setName("removeButton"); // NOI18N
@@ -777,7 +817,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        dragButton.setIcon(new javax.swing.ImageIcon(getClass().getResource("/.png"))); // NOI18N
+        dragButton.setIcon(new javax.swing.ImageIcon(getClass().getResource("/корректный.png"))); // NOI18N
         dragButton.setToolTipText(bundle.getString("GraphInterface.dragButton.toolTipText")); // NOI18N
         dragButton.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         dragButton.setName("dragButton"); // NOI18N
@@ -788,7 +828,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        editableBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8---25.png"))); // NOI18N
+        editableBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-редактировать-узел-25.png"))); // NOI18N
         editableBtn.setToolTipText(bundle.getString("GraphInterface.editableBtn.toolTipText")); // NOI18N
         editableBtn.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         editableBtn.setName("editableBtn"); // NOI18N
@@ -799,7 +839,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        resizableBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8----25.png"))); // NOI18N
+        resizableBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-изменить-размер-файла-25.png"))); // NOI18N
         resizableBtn.setToolTipText(bundle.getString("GraphInterface.resizableBtn.toolTipText")); // NOI18N
         resizableBtn.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         resizableBtn.setName("resizableBtn"); // NOI18N
@@ -820,7 +860,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        stretchButton1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25.png"))); // NOI18N
+        stretchButton1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-расширить-25.png"))); // NOI18N
         stretchButton1.setEnabled(false);
         stretchButton1.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         stretchButton1.setName("stretchButton1"); // NOI18N
@@ -831,7 +871,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        stretchButton2.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25.png"))); // NOI18N
+        stretchButton2.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-свернуть-25.png"))); // NOI18N
         stretchButton2.setEnabled(false);
         stretchButton2.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         stretchButton2.setName("stretchButton2"); // NOI18N
@@ -842,7 +882,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        stretchButton3.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-----25.png"))); // NOI18N
+        stretchButton3.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-изменение-размера-по-вертикали-25.png"))); // NOI18N
         stretchButton3.setEnabled(false);
         stretchButton3.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         stretchButton3.setName("stretchButton3"); // NOI18N
@@ -853,7 +893,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        stretchButton4.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8----25.png"))); // NOI18N
+        stretchButton4.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-объединение-по-горизонтали-25.png"))); // NOI18N
         stretchButton4.setEnabled(false);
         stretchButton4.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         stretchButton4.setName("stretchButton4"); // NOI18N
@@ -868,7 +908,7 @@ public class GraphInterface extends javax.swing.JFrame {
         gridSizeSpinner.setToolTipText(bundle.getString("GraphInterface.gridSizeSpinner.toolTipText")); // NOI18N
         gridSizeSpinner.setName("gridSizeSpinner"); // NOI18N
 
-        zoomMore.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25.png"))); // NOI18N
+        zoomMore.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-приблизить-25.png"))); // NOI18N
         zoomMore.setToolTipText(bundle.getString("GraphInterface.zoomMore.toolTipText")); // NOI18N
         zoomMore.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         zoomMore.setName("zoomMore"); // NOI18N
@@ -880,7 +920,7 @@ public class GraphInterface extends javax.swing.JFrame {
         });
 
         zoomLess.setFont(new java.awt.Font("Segoe UI Black", 0, 12)); // NOI18N
-        zoomLess.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25.png"))); // NOI18N
+        zoomLess.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-уменьшить-25.png"))); // NOI18N
         zoomLess.setToolTipText(bundle.getString("GraphInterface.zoomLess.toolTipText")); // NOI18N
         zoomLess.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         zoomLess.setName("zoomLess"); // NOI18N
@@ -891,7 +931,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        selectGraph.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25.png"))); // NOI18N
+        selectGraph.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-курсор-25.png"))); // NOI18N
         selectGraph.setToolTipText(bundle.getString("GraphInterface.selectGraph.toolTipText")); // NOI18N
         selectGraph.setName("selectGraph"); // NOI18N
         selectGraph.setPreferredSize(new java.awt.Dimension(25, 25));
@@ -901,7 +941,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        setAnchorPointBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25.png"))); // NOI18N
+        setAnchorPointBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-точность-25.png"))); // NOI18N
         setAnchorPointBtn.setToolTipText(bundle.getString("GraphInterface.setAnchorPointBtn.toolTipText")); // NOI18N
         setAnchorPointBtn.setName("setAnchorPointBtn"); // NOI18N
         setAnchorPointBtn.setPreferredSize(new java.awt.Dimension(25, 25));
@@ -915,7 +955,7 @@ public class GraphInterface extends javax.swing.JFrame {
         coordAnchorPoint.setName("coordAnchorPoint"); // NOI18N
         coordAnchorPoint.setPreferredSize(new java.awt.Dimension(37, 20));
 
-        clearGraphBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8------25.png"))); // NOI18N
+        clearGraphBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-удалить-отчет-в-виде-графика-25.png"))); // NOI18N
         clearGraphBtn.setToolTipText(bundle.getString("GraphInterface.clearGraphBtn.toolTipText")); // NOI18N
         clearGraphBtn.setName("clearGraphBtn"); // NOI18N
         clearGraphBtn.setPreferredSize(new java.awt.Dimension(25, 25));
@@ -925,7 +965,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        brightnessBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8---25.png"))); // NOI18N
+        brightnessBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-включить-свет-25.png"))); // NOI18N
         brightnessBtn.setToolTipText(bundle.getString("GraphInterface.brightnessBtn.toolTipText")); // NOI18N
         brightnessBtn.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
         brightnessBtn.setName("brightnessBtn"); // NOI18N
@@ -936,18 +976,18 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        standardolorBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8----25.png"))); // NOI18N
-        standardolorBtn.setToolTipText(bundle.getString("GraphInterface.standardolorBtn.toolTipText")); // NOI18N
-        standardolorBtn.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
-        standardolorBtn.setName("standardolorBtn"); // NOI18N
-        standardolorBtn.setPreferredSize(new java.awt.Dimension(25, 25));
-        standardolorBtn.addActionListener(new java.awt.event.ActionListener() {
+        standardСolorBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-убрать-инвертирование-цвета-25.png"))); // NOI18N
+        standardСolorBtn.setToolTipText(bundle.getString("GraphInterface.standardСolorBtn.toolTipText")); // NOI18N
+        standardСolorBtn.setHorizontalTextPosition(javax.swing.SwingConstants.CENTER);
+        standardСolorBtn.setName("standardСolorBtn"); // NOI18N
+        standardСolorBtn.setPreferredSize(new java.awt.Dimension(25, 25));
+        standardСolorBtn.addActionListener(new java.awt.event.ActionListener() {
             public void actionPerformed(java.awt.event.ActionEvent evt) {
-                standardolorBtnActionPerformed(evt);
+                standardСolorBtnActionPerformed(evt);
             }
         });
 
-        hideLabelsBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/  .png"))); // NOI18N
+        hideLabelsBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/скрыть надписи вершин.png"))); // NOI18N
         hideLabelsBtn.setToolTipText(bundle.getString("GraphInterface.hideLabelsBtn.toolTipText")); // NOI18N
         hideLabelsBtn.setName("hideLabelsBtn"); // NOI18N
         hideLabelsBtn.addActionListener(new java.awt.event.ActionListener() {
@@ -974,7 +1014,7 @@ public class GraphInterface extends javax.swing.JFrame {
                             .addComponent(editableBtn, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
                             .addComponent(selectGraph, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
                             .addComponent(clearGraphBtn, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
-                            .addComponent(standardolorBtn, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
+                            .addComponent(standardСolorBtn, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE))
                         .addGap(0, 10, Short.MAX_VALUE)))
                 .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED)
                 .addGroup(jPanel10Layout.createParallelGroup(javax.swing.GroupLayout.Alignment.LEADING, false)
@@ -1045,7 +1085,7 @@ public class GraphInterface extends javax.swing.JFrame {
                         .addGap(12, 12, 12)
                         .addComponent(clearGraphBtn, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
-                        .addComponent(standardolorBtn, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
+                        .addComponent(standardСolorBtn, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.RELATED, javax.swing.GroupLayout.DEFAULT_SIZE, Short.MAX_VALUE)
                         .addComponent(selectGraph, javax.swing.GroupLayout.PREFERRED_SIZE, javax.swing.GroupLayout.DEFAULT_SIZE, javax.swing.GroupLayout.PREFERRED_SIZE)
                         .addPreferredGap(javax.swing.LayoutStyle.ComponentPlacement.UNRELATED)
@@ -1124,7 +1164,7 @@ public class GraphInterface extends javax.swing.JFrame {
         jLabel30.setText(bundle.getString("GraphInterface.jLabel30.text")); // NOI18N
         jLabel30.setName("jLabel30"); // NOI18N
 
-        jLabel31.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8---45.png"))); // NOI18N
+        jLabel31.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-децентрализованная-сеть-45.png"))); // NOI18N
         jLabel31.setText(bundle.getString("GraphInterface.jLabel31.text")); // NOI18N
         jLabel31.setFocusable(false);
         jLabel31.setName("jLabel31"); // NOI18N
@@ -1427,7 +1467,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         });
 
-        questionBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--25.png"))); // NOI18N
+        questionBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-вопрос-25.png"))); // NOI18N
         questionBtn.setText(bundle.getString("GraphInterface.questionBtn.text")); // NOI18N
         questionBtn.setName("questionBtn"); // NOI18N
         questionBtn.addActionListener(new java.awt.event.ActionListener() {
@@ -1633,7 +1673,7 @@ public class GraphInterface extends javax.swing.JFrame {
         fileMenu.setText(bundle.getString("GraphInterface.fileMenu.text")); // NOI18N
         fileMenu.setName("fileMenu"); // NOI18N
 
-        newGraph.setIcon(new javax.swing.ImageIcon(getClass().getResource("/--23.png"))); // NOI18N
+        newGraph.setIcon(new javax.swing.ImageIcon(getClass().getResource("/добавить-график-23.png"))); // NOI18N
         newGraph.setText(bundle.getString("GraphInterface.newGraph.text")); // NOI18N
         newGraph.setName("newGraph"); // NOI18N
         newGraph.setPreferredSize(new java.awt.Dimension(116, 20));
@@ -1644,7 +1684,7 @@ public class GraphInterface extends javax.swing.JFrame {
         });
         fileMenu.add(newGraph);
 
-        openBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8---22.png"))); // NOI18N
+        openBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-открыть-папку-22.png"))); // NOI18N
         openBtn.setText(bundle.getString("GraphInterface.openBtn.text")); // NOI18N
         openBtn.setEnabled(false);
         openBtn.setName("openBtn"); // NOI18N
@@ -1659,7 +1699,7 @@ public class GraphInterface extends javax.swing.JFrame {
         jSeparator1.setName("jSeparator1"); // NOI18N
         fileMenu.add(jSeparator1);
 
-        saveBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--20.png"))); // NOI18N
+        saveBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-сохранить-20.png"))); // NOI18N
         saveBtn.setText(bundle.getString("GraphInterface.saveBtn.text")); // NOI18N
         saveBtn.setEnabled(false);
         saveBtn.setName("saveBtn"); // NOI18N
@@ -1671,7 +1711,7 @@ public class GraphInterface extends javax.swing.JFrame {
         });
         fileMenu.add(saveBtn);
 
-        saveAsBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--20.png"))); // NOI18N
+        saveAsBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-сохранить-20.png"))); // NOI18N
         saveAsBtn.setText(bundle.getString("GraphInterface.saveAsBtn.text")); // NOI18N
         saveAsBtn.setEnabled(false);
         saveAsBtn.setName("saveAsBtn"); // NOI18N
@@ -1686,7 +1726,7 @@ public class GraphInterface extends javax.swing.JFrame {
         jSeparator2.setName("jSeparator2"); // NOI18N
         fileMenu.add(jSeparator2);
 
-        expImBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/_.png"))); // NOI18N
+        expImBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/Экспорт_изображения.png"))); // NOI18N
         expImBtn.setText(bundle.getString("GraphInterface.expImBtn.text")); // NOI18N
         expImBtn.setEnabled(false);
         expImBtn.setName("expImBtn"); // NOI18N
@@ -1698,7 +1738,7 @@ public class GraphInterface extends javax.swing.JFrame {
         });
         fileMenu.add(expImBtn);
 
-        jMenuItem1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--22.png"))); // NOI18N
+        jMenuItem1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-настройки-22.png"))); // NOI18N
         jMenuItem1.setText(bundle.getString("GraphInterface.jMenuItem1.text")); // NOI18N
         jMenuItem1.setName("jMenuItem1"); // NOI18N
         jMenuItem1.setPreferredSize(new java.awt.Dimension(115, 22));
@@ -1707,7 +1747,7 @@ public class GraphInterface extends javax.swing.JFrame {
         jSeparator4.setName("jSeparator4"); // NOI18N
         fileMenu.add(jSeparator4);
 
-        exitBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8---22.png"))); // NOI18N
+        exitBtn.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-закрыть-окно-22.png"))); // NOI18N
         exitBtn.setText(bundle.getString("GraphInterface.exitBtn.text")); // NOI18N
         exitBtn.setName("exitBtn"); // NOI18N
         exitBtn.setPreferredSize(new java.awt.Dimension(90, 22));
@@ -1727,12 +1767,12 @@ public class GraphInterface extends javax.swing.JFrame {
         propertiesMenu.setText(bundle.getString("GraphInterface.propertiesMenu.text")); // NOI18N
         propertiesMenu.setName("propertiesMenu"); // NOI18N
 
-        jMenu1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8--22.png"))); // NOI18N
+        jMenu1.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-сравнить-22.png"))); // NOI18N
         jMenu1.setText(bundle.getString("GraphInterface.jMenu1.text")); // NOI18N
         jMenu1.setName("jMenu1"); // NOI18N
         jMenu1.setPreferredSize(new java.awt.Dimension(145, 22));
 
-        stronglyRegularly.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8------22.png"))); // NOI18N
+        stronglyRegularly.setIcon(new javax.swing.ImageIcon(getClass().getResource("/icons8-строить-отчет-в-виде-графика-22.png"))); // NOI18N
         stronglyRegularly.setText(bundle.getString("GraphInterface.stronglyRegularly.text")); // NOI18N
         stronglyRegularly.setEnabled(false);
         stronglyRegularly.setName("stronglyRegularly"); // NOI18N
@@ -1779,16 +1819,16 @@ public class GraphInterface extends javax.swing.JFrame {
         setLocationRelativeTo(null);
     }// </editor-fold>//GEN-END:initComponents
 
-    //<editor-fold desc=": ">
+    //<editor-fold desc="Окно: Главное">
 
-    //<editor-fold desc=" :     ">
+    //<editor-fold desc="Классы событий: клика мыши и выделения вершины">
     /**
-     *    
+     * Класс обрабатывает события мыши
      * */
     class MouseReleasedListener extends MouseAdapter {
         /**
-         *    
-         * @param e  */
+         * метод обработки клика мыши
+         * @param e источник события*/
         @Override
         public void mouseReleased(MouseEvent e) {
             super.mouseReleased(e);
@@ -1817,7 +1857,10 @@ public class GraphInterface extends javax.swing.JFrame {
             if (addPeakButton.isSelected()) {
                 graph2.getModel().beginUpdate();
                 try {
-                    graph2.insertVertex(graph2.getDefaultParent(), counterID.toString(), counterID.toString(), mousePos.getX() - 4, mousePos.getY() - 8, 18, 18, "ROUNDED;strokeColor=red;fillColor=red");
+                    Object vertex = graph2.insertVertex(graph2.getDefaultParent(), counterID.toString(), counterID.toString(), mousePos.getX() - 4, mousePos.getY() - 8, 18, 18, "ROUNDED;strokeColor=red;fillColor=red");
+                    if (GraphsNewVertices.containsKey(localNameGraph)) {
+                        GraphsNewVertices.get(localNameGraph).add(vertex);
+                    }
 
                     counterID++;
                 } finally {
@@ -1850,14 +1893,14 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }
     /**
-     *   
-     *   
+     * Класс обрабатывает изминения
+     * состояния компонента графа
      * */
     class ChangeEventListener implements mxEventSource.mxIEventListener {
         /**
-         *     
-         * @param sender  
-         * @param evt  */
+         * Метод обрабатывает событие изменения компонента
+         * @param sender объект изменения
+         * @param evt событие изменения*/
         @Override
         public void invoke(Object sender, mxEventObject evt) {
             mxStylesheet stylesheet = Graphs.get(localNameGraph).getStylesheet();
@@ -1881,6 +1924,7 @@ public class GraphInterface extends javax.swing.JFrame {
                     } finally {
                         Graphs.get(localNameGraph).getModel().endUpdate();
                     }
+                    placeNewVertices(localNameGraph, v1, v2);
                     couter = 0;
                 }
             }
@@ -1896,10 +1940,10 @@ public class GraphInterface extends javax.swing.JFrame {
     }
     //</editor-fold>
 
-    //<editor-fold desc=":  ,  /,  ,  ">
+    //<editor-fold desc="Кнопки: Добавить вершину, Удалить вершину/ребро, добавить ребро, Разрешить перетаскивание">
     /**
-     *      " "
-     * @param evt  */
+     * Обработчик события клика по кнопке "разрешения перетаскивания"
+     * @param evt событие клика*/
     private void dragButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_dragButtonActionPerformed
         deactivateUnused(dragButton);
         if (dragButton.isSelected()) {
@@ -1909,14 +1953,14 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }//GEN-LAST:event_dragButtonActionPerformed
     /**
-     *      "   "
-     * @param evt  */
+     * Обработчик события клика по кнопке "добавления вершины на холст"
+     * @param evt событие клика*/
     private void addPeakButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_addPeakButtonActionPerformed
         deactivateUnused(addPeakButton);
     }//GEN-LAST:event_addPeakButtonActionPerformed
     /**
-     *      "    "
-     * @param evt  */
+     * Обработчик события клика по кнопке "соединения вершин ребрами на холсте"
+     * @param evt событие клика*/
     private void addRibButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_addRibButtonActionPerformed
         deactivateUnused(addRibButton);
         if (addRibButton.isSelected()) {
@@ -1926,8 +1970,8 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }//GEN-LAST:event_addRibButtonActionPerformed
     /**
-     *      " /"
-     * @param evt  */
+     * Обработчик события клика по кнопке "удаления вершины/ребра"
+     * @param evt событие клика*/
     private void removeButtonActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_removeButtonActionPerformed
         deactivateUnused(removeButton);
         if (removeButton.isSelected()) {
@@ -1939,164 +1983,52 @@ public class GraphInterface extends javax.swing.JFrame {
 
     //</editor-fold>
 
-    //<editor-fold desc="    ">
+    //<editor-fold desc="Методы растягивания и стягивания графа">
 
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "растянуть по горизонтали"
+     * @param evt событие клика*/
     private void stretchButton1ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_stretchButton1ActionPerformed
-        myPeaks = new ArrayList<>(Arrays.asList(Graphs.get(localNameGraph).getChildCells(Graphs.get(localNameGraph).getDefaultParent())));
-        mxCell cell = null;
-        for (Object peak : myPeaks) {
-            if (peak instanceof mxCell) {
-                cell = (mxCell) peak;
-                if (cell.isVertex()) {
-
-                    if (cell.getGeometry().getX() > AnchorPointX) {
-                        Graphs.get(localNameGraph).getModel().beginUpdate();
-                        try {
-                            cell.getGeometry().setX(cell.getGeometry().getX() + (Integer) gridSizeSpinner.getValue());
-                        } finally {
-                            Graphs.get(localNameGraph).getModel().endUpdate();
-                        }
-                        Graphs.get(localNameGraph).refresh();
-                    }
-
-                    if (cell.getGeometry().getX() < AnchorPointX) {
-                        Graphs.get(localNameGraph).getModel().beginUpdate();
-                        try {
-                            cell.getGeometry().setX(cell.getGeometry().getX() - (Integer) gridSizeSpinner.getValue());
-                        } finally {
-                            Graphs.get(localNameGraph).getModel().endUpdate();
-                        }
-                        Graphs.get(localNameGraph).refresh();
-                    }
-                }
-            }
-        }
+        GeometryTransform.spread(Graphs.get(localNameGraph), AnchorPointX, AnchorPointY, (Integer) gridSizeSpinner.getValue(), 0);
     }//GEN-LAST:event_stretchButton1ActionPerformed
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "стянуть по горизонтали"
+     * @param evt событие клика*/
     private void stretchButton2ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_stretchButton2ActionPerformed
-        myPeaks = new ArrayList<>(Arrays.asList(Graphs.get(localNameGraph).getChildCells(Graphs.get(localNameGraph).getDefaultParent())));
-        mxCell cell = null;
-        for (Object peak : myPeaks) {
-            if (peak instanceof mxCell) {
-                cell = (mxCell) peak;
-                if (cell.isVertex()) {
-
-                    if (cell.getGeometry().getX() > AnchorPointX) {
-                        Graphs.get(localNameGraph).getModel().beginUpdate();
-                        try {
-                            cell.getGeometry().setX(cell.getGeometry().getX() - (Integer) gridSizeSpinner.getValue());
-                        } finally {
-                            Graphs.get(localNameGraph).getModel().endUpdate();
-                        }
-                        Graphs.get(localNameGraph).refresh();
-                    }
-
-                    if (cell.getGeometry().getX() < AnchorPointX) {
-                        Graphs.get(localNameGraph).getModel().beginUpdate();
-                        try {
-                            cell.getGeometry().setX(cell.getGeometry().getX() + (Integer) gridSizeSpinner.getValue());
-                        } finally {
-                            Graphs.get(localNameGraph).getModel().endUpdate();
-                        }
-                        Graphs.get(localNameGraph).refresh();
-                    }
-                }
-            }
-        }
+        GeometryTransform.spread(Graphs.get(localNameGraph), AnchorPointX, AnchorPointY, -(Integer) gridSizeSpinner.getValue(), 0);
     }//GEN-LAST:event_stretchButton2ActionPerformed
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "растянуть по вертикали"
+     * @param evt событие клика*/
     private void stretchButton3ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_stretchButton3ActionPerformed
-        myPeaks = new ArrayList<>(Arrays.asList(Graphs.get(localNameGraph).getChildCells(Graphs.get(localNameGraph).getDefaultParent())));
-        mxCell cell = null;
-        for (Object peak : myPeaks) {
-            if (peak instanceof mxCell) {
-                cell = (mxCell) peak;
-                if (cell.isVertex()) {
-
-                    if (cell.getGeometry().getY() > AnchorPointY) {
-                        Graphs.get(localNameGraph).getModel().beginUpdate();
-                        try {
-                            cell.getGeometry().setY(cell.getGeometry().getY() + (Integer) gridSizeSpinner.getValue());
-                        } finally {
-                            Graphs.get(localNameGraph).getModel().endUpdate();
-                        }
-                        Graphs.get(localNameGraph).refresh();
-                    }
-
-                    if (cell.getGeometry().getY() < AnchorPointY) {
-                        Graphs.get(localNameGraph).getModel().beginUpdate();
-                        try {
-                            cell.getGeometry().setY(cell.getGeometry().getY() - (Integer) gridSizeSpinner.getValue());
-                        } finally {
-                            Graphs.get(localNameGraph).getModel().endUpdate();
-                        }
-                        Graphs.get(localNameGraph).refresh();
-                    }
-                }
-            }
-        }
+        GeometryTransform.spread(Graphs.get(localNameGraph), AnchorPointX, AnchorPointY, 0, (Integer) gridSizeSpinner.getValue());
     }//GEN-LAST:event_stretchButton3ActionPerformed
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "стянуть по вертикали"
+     * @param evt событие клика*/
     private void stretchButton4ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_stretchButton4ActionPerformed
-        myPeaks = new ArrayList<>(Arrays.asList(Graphs.get(localNameGraph).getChildCells(Graphs.get(localNameGraph).getDefaultParent())));
-        mxCell cell = null;
-        for (Object peak : myPeaks) {
-            if (peak instanceof mxCell) {
-                cell = (mxCell) peak;
-                if (cell.isVertex()) {
-
-                    if (cell.getGeometry().getY() > AnchorPointY) {
-                        Graphs.get(localNameGraph).getModel().beginUpdate();
-                        try {
-                            cell.getGeometry().setY(cell.getGeometry().getY() - (Integer) gridSizeSpinner.getValue());
-                        } finally {
-                            Graphs.get(localNameGraph).getModel().endUpdate();
-                        }
-                        Graphs.get(localNameGraph).refresh();
-                    }
-
-                    if (cell.getGeometry().getY() < AnchorPointY) {
-                        Graphs.get(localNameGraph).getModel().beginUpdate();
-                        try {
-                            cell.getGeometry().setY(cell.getGeometry().getY() + (Integer) gridSizeSpinner.getValue());
-                        } finally {
-                            Graphs.get(localNameGraph).getModel().endUpdate();
-                        }
-                        Graphs.get(localNameGraph).refresh();
-                    }
-                }
-            }
-        }
+        GeometryTransform.spread(Graphs.get(localNameGraph), AnchorPointX, AnchorPointY, 0, -(Integer) gridSizeSpinner.getValue());
     }//GEN-LAST:event_stretchButton4ActionPerformed
 
     //</editor-fold>
 
-    //<editor-fold desc="      ">
+    //<editor-fold desc="Прочие методы связанные с окном роботы графа">
 
     /**
-     *      "     "
-     * @param evt  */
+     * Обработчик события клика по кнопке "увеличить визуальное представление графа на холсте"
+     * @param evt событие клика*/
     private void zoomMoreActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_zoomMoreActionPerformed
         GraphsComponents.get(localNameGraph).zoomIn();
     }//GEN-LAST:event_zoomMoreActionPerformed
     /**
-     *      "     "
-     * @param evt  */
+     * Обработчик события клика по кнопке "уменьшить визуальное представление графа на холсте"
+     * @param evt событие клика*/
     private void zoomLessActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_zoomLessActionPerformed
         GraphsComponents.get(localNameGraph).zoomOut();
     }//GEN-LAST:event_zoomLessActionPerformed
     /**
-     *      "       "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Выделить все вершины графа для перетаскивания всего графа"
+     * @param evt событие клика*/
     private void selectGraphActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_selectGraphActionPerformed
         ArrayList<Object> peaks = new ArrayList<>();
         myPeaks = new ArrayList<>(Arrays.asList(Graphs.get(localNameGraph).getChildCells(Graphs.get(localNameGraph).getDefaultParent())));
@@ -2116,9 +2048,9 @@ public class GraphInterface extends javax.swing.JFrame {
         Graphs.get(localNameGraph).setCellsSelectable(false);
     }//GEN-LAST:event_selectGraphActionPerformed
     /**
-     *      "  
-     *  /  /  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Установить опорную точку
+     * для стягивания/растягивания по горизонтали/вертикали вершин графа"
+     * @param evt событие клика*/
     private void setAnchorPointBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_setAnchorPointBtnActionPerformed
         deactivateUnused(setAnchorPointBtn);
         coordAnchorPoint.setText("<html>X = <br>Y = ");
@@ -2129,10 +2061,10 @@ public class GraphInterface extends javax.swing.JFrame {
         Graphs.get(localNameGraph).removeCells(new Object[]{anchorCell});
     }//GEN-LAST:event_setAnchorPointBtnActionPerformed
     /**
-     *      " "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Очистить холст"
+     * @param evt событие клика*/
     private void clearGraphBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_clearGraphBtnActionPerformed
-        Integer choice = JOptionPane.showConfirmDialog(this, " ,     ?", " ", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
+        Integer choice = JOptionPane.showConfirmDialog(this, "Вы уверенны, что хотите удалить весь граф?", "Удаление графа", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
         if (choice.equals(JOptionPane.YES_OPTION)) {
             Graphs.get(localNameGraph).getModel().beginUpdate();
             try {
@@ -2143,8 +2075,8 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }//GEN-LAST:event_clearGraphBtnActionPerformed
     /**
-     *      "      "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Разрешить редактировать размеры вершин прямо на холсте"
+     * @param evt событие клика*/
     private void resizableBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_resizableBtnActionPerformed
         if (resizableBtn.isSelected()) {
             Graphs.get(localNameGraph).setCellsSelectable(true);
@@ -2155,8 +2087,8 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }//GEN-LAST:event_resizableBtnActionPerformed
     /**
-     *      "     "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Разрешить редактировать надписи вершин и рёбер"
+     * @param evt событие клика*/
     private void editableBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_editableBtnActionPerformed
         if (editableBtn.isSelected()) {
             Graphs.get(localNameGraph).setCellsEditable(true);
@@ -2165,8 +2097,8 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }//GEN-LAST:event_editableBtnActionPerformed
     /**
-     *      "    "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Сменить цвет заднего фона холста"
+     * @param evt событие клика*/
     private void brightnessBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_brightnessBtnActionPerformed
         if (brightnessBtn.isSelected()) {
             GraphsComponents.get(localNameGraph).getViewport().setOpaque(true);
@@ -2177,31 +2109,39 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }//GEN-LAST:event_brightnessBtnActionPerformed
     /**
-     *      "  -   "
-     * @param evt  */
-    private void standardolorBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_standardolorBtnActionPerformed
-        Object[] arrObj = Graphs.get(localNameGraph).getChildCells(Graphs.get(localNameGraph).getDefaultParent());
-        for (Object obj : arrObj) {
+     * Обработчик события клика по кнопке "Привести цветовые хар-ки к стандартному состоянию"
+     * @param evt событие клика*/
+    private void standardСolorBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_standardСolorBtnActionPerformed
+        mxGraph graph = Graphs.get(localNameGraph);
+        ArrayList<Object> vertices = new ArrayList<>();
+        ArrayList<Object> edges = new ArrayList<>();
+        for (Object obj : graph.getChildCells(graph.getDefaultParent())) {
             if (obj instanceof mxCell) {
                 mxCell cell = (mxCell) obj;
                 if (cell.isVertex()) {
-                    Graphs.get(localNameGraph).setCellStyles(mxConstants.STYLE_STROKECOLOR, "red", new Object[]{cell});
-                    Graphs.get(localNameGraph).setCellStyles(mxConstants.STYLE_FILLCOLOR, "red", new Object[]{cell});
-
+                    vertices.add(cell);
                     cell.getGeometry().setHeight(18.0);
                     cell.getGeometry().setWidth(18.0);
                 }
                 if (cell.isEdge()) {
-                    Graphs.get(localNameGraph).setCellStyles(mxConstants.STYLE_STROKECOLOR, "black", new Object[]{cell});
+                    edges.add(cell);
                 }
             }
         }
+        graph.getModel().beginUpdate();
+        try {
+            graph.setCellStyles(mxConstants.STYLE_STROKECOLOR, "red", vertices.toArray());
+            graph.setCellStyles(mxConstants.STYLE_FILLCOLOR, "red", vertices.toArray());
+            graph.setCellStyles(mxConstants.STYLE_STROKECOLOR, "black", edges.toArray());
+        } finally {
+            graph.getModel().endUpdate();
+        }
         Graphs.get(localNameGraph).refresh();
         GraphsComponents.get(localNameGraph).refresh();
-    }//GEN-LAST:event_standardolorBtnActionPerformed
+    }//GEN-LAST:event_standardСolorBtnActionPerformed
     /**
-     *      "    "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Скрыть надписи вершин и рёбер"
+     * @param evt событие клика*/
     private void hideLabelsBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_hideLabelsBtnActionPerformed
         if (hideLabelsBtn.isSelected()) {
             Graphs.get(localNameGraph).setLabelsVisible(false);
@@ -2211,62 +2151,71 @@ public class GraphInterface extends javax.swing.JFrame {
         Graphs.get(localNameGraph).refresh();
     }//GEN-LAST:event_hideLabelsBtnActionPerformed
     /**
-     *      "   "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Выбрать новый цвет вершин"
+     * @param evt событие клика*/
     private void chooseColorPeaksActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_chooseColorPeaksActionPerformed
-        chooseColorPeak = JColorChooser.showDialog(this, " ", Color.RED);
+        chooseColorPeak = JColorChooser.showDialog(this, "Выберете цвет", Color.RED);
         selectedColorPeaks.setBackground(chooseColorPeak);
     }//GEN-LAST:event_chooseColorPeaksActionPerformed
     /**
-     *      "   "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Выбрать новый цвет рёбер"
+     * @param evt событие клика*/
     private void chooseColorRibsActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_chooseColorRibsActionPerformed
-        chooseColorRib = JColorChooser.showDialog(this, " ", Color.BLACK);
+        chooseColorRib = JColorChooser.showDialog(this, "Выберете цвет", Color.BLACK);
         selectedColorRibs.setBackground(chooseColorRib);
     }//GEN-LAST:event_chooseColorRibsActionPerformed
 
     //</editor-fold>
 
-    //<editor-fold desc="    ">
+    //<editor-fold desc="Изменить цвет и размер графа">
 
     /**
-     *      "     "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Применить новые настройки внешнего вида графа"
+     * @param evt событие клика*/
     private void applySettingsBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_applySettingsBtnActionPerformed
         installNewSettings();
     }//GEN-LAST:event_applySettingsBtnActionPerformed
     /**
-     *       */
+     * Метод инициализации новых настроек внешнего вида графа*/
     private void installNewSettings() {
-        Object[] arrObj = Graphs.get(localNameGraph).getChildCells(Graphs.get(localNameGraph).getDefaultParent());
-        for (Object obj : arrObj) {
+        mxGraph graph = Graphs.get(localNameGraph);
+        Double newSize = 18.0;
+        try {
+            newSize = Double.valueOf((int) peakDiameterSpin.getModel().getValue());
+        } catch (Exception e) {
+            e.printStackTrace();
+        }
+        ArrayList<Object> vertices = new ArrayList<>();
+        ArrayList<Object> edges = new ArrayList<>();
+        for (Object obj : graph.getChildCells(graph.getDefaultParent())) {
             if (obj instanceof mxCell) {
                 mxCell cell = (mxCell) obj;
                 if (cell.isVertex()) {
-                    Graphs.get(localNameGraph).setCellStyles(mxConstants.STYLE_STROKECOLOR, getHexColor(chooseColorPeak), new Object[]{cell});
-                    Graphs.get(localNameGraph).setCellStyles(mxConstants.STYLE_FILLCOLOR, getHexColor(chooseColorPeak), new Object[]{cell});
-                    Double newSize = 18.0;
-                    try {
-                        newSize = Double.valueOf((int) peakDiameterSpin.getModel().getValue());
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                    }
+                    vertices.add(cell);
                     if (!newSize.equals(0.0)) {
                         cell.getGeometry().setHeight(newSize);
                         cell.getGeometry().setWidth(newSize);
                     }
                 }
                 if (cell.isEdge()) {
-                    Graphs.get(localNameGraph).setCellStyles(mxConstants.STYLE_STROKECOLOR, getHexColor(chooseColorRib), new Object[]{cell});
+                    edges.add(cell);
                 }
             }
         }
+        graph.getModel().beginUpdate();
+        try {
+            graph.setCellStyles(mxConstants.STYLE_STROKECOLOR, getHexColor(chooseColorPeak), vertices.toArray());
+            graph.setCellStyles(mxConstants.STYLE_FILLCOLOR, getHexColor(chooseColorPeak), vertices.toArray());
+            graph.setCellStyles(mxConstants.STYLE_STROKECOLOR, getHexColor(chooseColorRib), edges.toArray());
+        } finally {
+            graph.getModel().endUpdate();
+        }
         Graphs.get(localNameGraph).refresh();
         GraphsComponents.get(localNameGraph).refresh();
     }
     /**
-     *      "     "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Применить новые настройки внешнего вида графа"
+     * @param evt событие клика*/
     private void applySettingsBtn2ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_applySettingsBtn2ActionPerformed
         installNewSettings();
     }//GEN-LAST:event_applySettingsBtn2ActionPerformed
@@ -2274,9 +2223,9 @@ public class GraphInterface extends javax.swing.JFrame {
 
     //</editor-fold>
 
-    //<editor-fold desc=" -   ">
+    //<editor-fold desc="Методы - не обработчики событий">
     /**
-     *       */
+     * Метод инициализации новых настроек внешнего вида графа*/
     private void initArraysLists() {
         ToggleButtons.add(addPeakButton);
         ToggleButtons.add(addRibButton);
@@ -2304,8 +2253,8 @@ public class GraphInterface extends javax.swing.JFrame {
         comboBoxes.add(graphComBox2);
     }
     /**
-     *        
-     * @param buttonUsed   */
+     * Метод отключает не используемые кнопки графического редактора графа
+     * @param buttonUsed используемая кнопка сейчас*/
     private void deactivateUnused(JToggleButton buttonUsed) {
         for (JToggleButton myBtn : ToggleButtons) {
             if (!myBtn.equals(buttonUsed)) {
@@ -2314,43 +2263,20 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }
     /**
-     *        
-     * @param graph  
-     * @param graphComponent  ,  */
+     * Метод устанавливает новое положение графа на рабочем холсте
+     * @param graph Объект графа
+     * @param graphComponent Объект компонента, представляющий граф*/
     private void newGeometry(mxGraph graph, mxGraphComponent graphComponent) {
-        mxCell cell = null;
-        myPeaks = new ArrayList<>(Arrays.asList(graph.getChildCells(graph.getDefaultParent())));
-
-        Double centerXPanel = graphComponent.getPreferredSize().getWidth() / 2;
-        Double centerYPanel = graphComponent.getPreferredSize().getHeight() / 2;
+        double offsetX = graphComponent.getPreferredSize().getWidth() / 2 - graph.getGraphBounds().getCenterX();
+        double offsetY = graphComponent.getPreferredSize().getHeight() / 2 - graph.getGraphBounds().getCenterY();
 
-        Double graphX = graph.getGraphBounds().getCenterX();
-        Double graphY = graph.getGraphBounds().getCenterY();
-
-        Double offsetX = centerXPanel - graphX;
-        Double offsetY = centerYPanel - graphY;
-
-        for (Object peak : myPeaks) {
-            if (peak instanceof mxCell) {
-                cell = (mxCell) peak;
-                if (cell.isVertex()) {
-                    graph.getModel().beginUpdate();
-                    try {
-                        cell.getGeometry().setX((cell.getGeometry().getX() + offsetX));
-                        cell.getGeometry().setY((cell.getGeometry().getY() + offsetY));
-                    } finally {
-                        graph.getModel().endUpdate();
-                    }
-                }
-            }
-        }
-        logger.info("      ");
-        graph.refresh();
+        GeometryTransform.apply(graph, AffineTransform.getTranslateInstance(offsetX, offsetY));
+        logger.info("Установка новой геометрии графа на рабочем холсте");
         graphComponent.updateComponents();
     }
     /**
-     *  /         
-     * @param isEnabled ,   */
+     * Метод отключает/включает все главные панели и содержащиеся в них графические компоненты
+     * @param isEnabled указывает, включать или выключать*/
     private void setPanelEnabled(Boolean isEnabled) {
         for (JComponent panel : majorPanels) {
 
@@ -2363,10 +2289,10 @@ public class GraphInterface extends javax.swing.JFrame {
         }
     }
     /**
-     *     
-     *       
-     * @param graph  
-     * @return    */
+     * Метод вычисляет количество вершин графа
+     * находящихся в момент вызова на рабочем холсте
+     * @param graph Объект графа
+     * @return Возвращает количество вершин графа*/
     private Integer getNumberPeaks(mxGraph graph) {
         Integer counter = 0;
         Object[] arrObj = graph.getChildCells(graph.getDefaultParent());
@@ -2381,10 +2307,10 @@ public class GraphInterface extends javax.swing.JFrame {
         return counter;
     }
     /**
-     *     RGB   
-     * @param myColor   RGB
-     * @return  ,  
-     *     RGB*/
+     * Метод преобразовывает коды цвета RGB в шестнадцатеричное представление
+     * @param myColor Объект цвета RGB
+     * @return Возвращает строку, которая представляет
+     * собой шестнадцатеричное представление цвета RGB*/
     private String getHexColor(Color myColor) {
         Integer R = myColor.getRed();
         Integer G = myColor.getGreen();
@@ -2392,10 +2318,10 @@ public class GraphInterface extends javax.swing.JFrame {
         return String.format("#%02x%02x%02x", R, G, B);
     }
     /**
-     *    
-     * @param table  
-     * @param name      
-     * @return    */
+     * Метод инициализирует созданную таблицу
+     * @param table Объект таблицы
+     * @param name Имя таблицы в карте таблиц графов
+     * @return Возвращает инициализированный объект таблицы*/
     private JTable initTable(JTable table, String name) {
         table.setModel(new DefaultTableModel(
                 new Object [][] {
@@ -2410,8 +2336,8 @@ public class GraphInterface extends javax.swing.JFrame {
         return table;
     }
     /**
-     *           
-     * @param model   */
+     * Метод добавляет созданный граф в карту графов и инициализирует этот граф
+     * @param model модель таблицы графа*/
     private void addAndInitNewGraph(DefaultTableModel model){
         Character ch;
         List<String> Vertices = new LinkedList<>();
@@ -2435,24 +2361,81 @@ public class GraphInterface extends javax.swing.JFrame {
             mySource = CreatorGraphs.Source.FROM_CONTIGUITY_MATRIX;
         }
 
-        logger.info("    JGraph ()    ");
-        Graphs.put(NameGraph, creator.getJGraph(creator.getGraphGUAVA(mySource)));
-        mxGraph box = Graphs.get(NameGraph);
-        GraphsComponents.put(NameGraph, new mxGraphComponent(box));
-        logger.info(" JGraph, mxGraphComponent  JTable");
-
-        initSettingsGraph(Graphs.get(NameGraph), GraphsComponents.get(NameGraph));
-
-        localNameGraph = NameGraph;
-        graphicComBox.setSelectedItem(NameGraph);
-
-        GraphsComponents.get(NameGraph).refresh();
-        Graphs.get(NameGraph).refresh();
+        CreatorGraphs.Source source = mySource;
+        runTask("Идёт создание графа, ожидайте...", ForceLayout.ITERATIONS, this, new BackgroundTask<>("Создание графа из матрицы",
+                progress -> prepareGraph(creator, creator.getGraphCSR(source), progress))
+                .onSuccess(prepared -> {
+                    logger.info("Запись на место старого JGraph (пустого) на новый из матрицы");
+                    installGraph(NameGraph, prepared);
+                    if (!creator.getMalformedEdges().isEmpty()) {
+                        JOptionPane.showMessageDialog(this,
+                                "<html>Некорректные рёбра пропущены (" + creator.getMalformedEdges().size() + "):<br>"
+                                        + String.join("<br>", creator.getMalformedEdges().subList(0, Math.min(5, creator.getMalformedEdges().size()))),
+                                "Ошибка ввода",
+                                JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
+                    }
+                }));
     }
     /**
-     *      
-     * @param graph  
-     * @param graphComponent  ,  */
+     * Метод создаёт инкрементальную проверку сильной регулярности для графа,
+     * отписывая от изменений проверку предыдущего графа с тем же именем
+     * @param name Имя графа в карте графов
+     * @param checker Проверка нового графа*/
+    private void putChecker(String name, IncrementalChecker checker) {
+        IncrementalChecker previous = GraphsCheckers.put(name, checker);
+        if (previous != null) {
+            previous.dispose();
+        }
+    }
+    /**
+     * Метод доукладывает вершины, добавленные в уложенный граф вручную, если новое ребро
+     * касается хотя бы одной из них. Двигаются только новые вершины, связанные с концами
+     * ребра через другие новые вершины; остальные вершины графа остаются на месте.
+     * Вершина, у которой после доукладки есть уложенный сосед, считается уложенной
+     * и больше не двигается
+     * @param name Имя графа в карте графов
+     * @param ends Концы нового ребра*/
+    private void placeNewVertices(String name, Object... ends) {
+        HashSet<Object> newVertices = GraphsNewVertices.get(name);
+        if (newVertices == null || Arrays.stream(ends).noneMatch(newVertices::contains)) {
+            return;
+        }
+        mxGraph graph = Graphs.get(name);
+        mxIGraphModel model = graph.getModel();
+        newVertices.removeIf(vertex -> !model.contains(vertex));
+
+        HashSet<Object> affected = new HashSet<>();
+        ArrayDeque<Object> queue = new ArrayDeque<>();
+        for (Object end : ends) {
+            if (newVertices.contains(end) && affected.add(end)) {
+                queue.add(end);
+            }
+        }
+        ArrayList<Object> anchored = new ArrayList<>();
+        while (!queue.isEmpty()) {
+            Object vertex = queue.poll();
+            boolean placedNeighbour = false;
+            for (int i = 0; i < model.getEdgeCount(vertex); i++) {
+                Object edge = model.getEdgeAt(vertex, i);
+                Object source = model.getTerminal(edge, true);
+                Object other = source == vertex ? model.getTerminal(edge, false) : source;
+                if (!newVertices.contains(other)) {
+                    placedNeighbour = true;
+                } else if (affected.add(other)) {
+                    queue.add(other);
+                }
+            }
+            if (placedNeighbour) {
+                anchored.add(vertex);
+            }
+        }
+        ForceLayout.place(graph, affected);
+        anchored.forEach(newVertices::remove);
+    }
+    /**
+     * Метод инициализирует созданный граф базовыми свойствами
+     * @param graph Объект графа
+     * @param graphComponent Объект компонента, представляющий граф*/
     private void initSettingsGraph(mxGraph graph, mxGraphComponent graphComponent) {
         graph.setCellsSelectable(false);
         graph.setCellsResizable(false);
@@ -2468,27 +2451,102 @@ public class GraphInterface extends javax.swing.JFrame {
 
         graphComponent.setCenterZoom(true);
 
-        mxCircleLayout layout1 = new mxCircleLayout(graph);
-        layout1.execute(graph.getDefaultParent());
-
-        mxOrganicLayout layout = new mxOrganicLayout(graph);
-        layout.execute(graph.getDefaultParent());
-
         workPanel0.removeAll();
         workPanel0.add(graphComponent, BorderLayout.CENTER);
-        logger.info("        ");
+        logger.info("Инициализация нового графа и вывод его на рабочий холст");
         newGeometry(graph, graphComponent);
     }
+    /**
+     * Класс графа, подготовленного в фоновом потоке к выводу на холст:
+     * JGraph-граф с расставленными вершинами и проверка его сильной регулярности*/
+    private static class PreparedGraph {
+        private final mxGraph graph;
+        private final IncrementalChecker checker;
+
+        private PreparedGraph(mxGraph graph, IncrementalChecker checker) {
+            this.graph = graph;
+            this.checker = checker;
+        }
+    }
+    /**
+     * Метод строит JGraph-граф по CSR-графу, расставляет его вершины и создаёт
+     * проверку сильной регулярности. Граф ещё не выведен на холст,
+     * поэтому метод можно вызывать вне потока обработки событий
+     * @param creator Создатель графов
+     * @param csr CSR-граф
+     * @param progress Приёмник хода укладки
+     * @return Возвращает подготовленный граф*/
+    private static PreparedGraph prepareGraph(CreatorGraphs creator, CsrGraph csr, IntConsumer progress) {
+        mxGraph graph = creator.getJGraph(csr);
+        ForceLayout.execute(graph, progress);
+        return new PreparedGraph(graph, new IncrementalChecker(graph));
+    }
+    /**
+     * Метод выводит подготовленный граф на холст под указанным именем
+     * @param name Имя графа в карте графов
+     * @param prepared Подготовленный граф*/
+    private void installGraph(String name, PreparedGraph prepared) {
+        Graphs.put(name, prepared.graph);
+        mxGraph box = Graphs.get(name);
+        GraphsComponents.put(name, new LevelOfDetailComponent(box));
+        putChecker(name, prepared.checker);
+        GraphsNewVertices.put(name, new HashSet<>());
+        logger.info("Создание JGraph, mxGraphComponent и JTable");
+
+        initSettingsGraph(Graphs.get(name), GraphsComponents.get(name));
+
+        localNameGraph = name;
+        graphicComBox.setSelectedItem(name);
+
+        GraphsComponents.get(name).refresh();
+        Graphs.get(name).refresh();
+    }
+    /**
+     * Метод запускает фоновую задачу и показывает окно процесса до её завершения.
+     * Окно процесса модальное: пока задача выполняется, главное окно перерисовывается,
+     * но не принимает действий пользователя
+     * @param message Сообщение в окне процесса
+     * @param maximum Количество шагов задачи или 0, если ход работы неизвестен
+     * @param owner Окно, относительно которого показывается окно процесса
+     * @param task Фоновая задача*/
+    private <T> void runTask(String message, int maximum, Component owner, BackgroundTask<T> task) {
+        currentTask = task;
+        messageLabel.setText(message);
+        jProgressBar1.setIndeterminate(maximum <= 0);
+        jProgressBar1.setMinimum(0);
+        jProgressBar1.setMaximum(Math.max(maximum, 1));
+        jProgressBar1.setValue(0);
+        cancelTaskBtn.setEnabled(true);
+
+        task.onProgress(jProgressBar1::setValue).onFinish(() -> {
+            currentTask = null;
+            processDialog.setVisible(false);
+        });
+        task.execute();
+        if (!task.isDone()) {
+            processDialog.setLocationRelativeTo(owner);
+            processDialog.setVisible(true);
+        }
+    }
+    /**
+     * Обработчик события клика по кнопке "Отменить" окна процесса
+     * @param evt событие клика*/
+    private void cancelTaskBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_cancelTaskBtnActionPerformed
+        if (currentTask != null) {
+            cancelTaskBtn.setEnabled(false);
+            currentTask.cancel(true);
+        }
+    }//GEN-LAST:event_cancelTaskBtnActionPerformed
 
     //</editor-fold>
 
-    //<editor-fold desc=":   ">
+    //<editor-fold desc="Окно: Данные и анализ">
 
-    //<editor-fold desc="    ">
+    //<editor-fold desc="Выбор типа матрици связей графа">
 
     /**
-     *      " "
-     * @param evt  */
+     * Обработчик события клика по радиокнопки "Матрица смежности"
+     * @param evt событие клика*/
     private void adjMatRadBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_adjMatRadBtnActionPerformed
         addRibs.setEnabled(false);
         addVertexes.setEnabled(true);
@@ -2501,9 +2559,9 @@ public class GraphInterface extends javax.swing.JFrame {
     }//GEN-LAST:event_adjMatRadBtnActionPerformed
 
     /**
-     *      " "
+     * Обработчик события клика по радиокнопки "Матрица инцидентности"
      *
-     * @param evt  
+     * @param evt событие клика
      */
     private void IncMatRadBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_IncMatRadBtnActionPerformed
 
@@ -2518,24 +2576,24 @@ public class GraphInterface extends javax.swing.JFrame {
 
     //</editor-fold>
 
-    //<editor-fold desc="  /">
+    //<editor-fold desc="Добавить список вершин/рёбер">
 
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Добавления списка рёбер"
+     * @param evt событие клика*/
     private void addRibsActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_addRibsActionPerformed
         edgeNames = JOptionPane.showInputDialog(this,
-                "  ",
-                " ", JOptionPane.PLAIN_MESSAGE,
-                new javax.swing.ImageIcon(this.getClass().getResource("/-100.png")), null,
+                "Введите список ребер",
+                "Добавить ребра", JOptionPane.PLAIN_MESSAGE,
+                new javax.swing.ImageIcon(this.getClass().getResource("/график-100.png")), null,
                 "a, b, ... , n"
         );
         if (edgeNames != null){
             if (!edgeNames.toString().matches("(\\D+, )(\\D+, )+\\D+")){
                 JOptionPane.showMessageDialog(this,
-                        "<html>,   <br>   <br> : a, b, ... , n",
-                        " ",
-                        JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
+                        "<html>Извините, но введенный вами<br>список ребер не соответствует<br>требуемому формату: a, b, ... , n",
+                        "Ошибка ввода",
+                        JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
             }
             else{
                 graphEdgesStr = new LinkedList<>(Arrays.asList(edgeNames.toString().split(", ")));
@@ -2547,20 +2605,20 @@ public class GraphInterface extends javax.swing.JFrame {
     }//GEN-LAST:event_addRibsActionPerformed
 
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Добавления списка вершин"
+     * @param evt событие клика*/
     private void addVertexesActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_addVertexesActionPerformed
         vertexNames = JOptionPane.showInputDialog(this,
-                "  ",
-                " ", JOptionPane.PLAIN_MESSAGE,
-                new javax.swing.ImageIcon(this.getClass().getResource("/-100.png")), null,
+                "Введите список вершин",
+                "Добавить вершины", JOptionPane.PLAIN_MESSAGE,
+                new javax.swing.ImageIcon(this.getClass().getResource("/график-100.png")), null,
                 "1, 2, ... , n");
         if (vertexNames != null){
             if (!vertexNames.toString().matches("(\\d+, )(\\d+, )+\\d+")){
                 JOptionPane.showMessageDialog(this,
-                        "<html>,   <br>   <br> : 1, 2, ... , n",
-                        " ",
-                        JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
+                        "<html>Извините, но введенный вами<br>список вершин не соответствует<br>требуемому формату: 1, 2, ... , n",
+                        "Ошибка ввода",
+                        JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
 
             }
             else {
@@ -2582,10 +2640,10 @@ public class GraphInterface extends javax.swing.JFrame {
 
     //</editor-fold>
 
-    //<editor-fold desc="      ">
+    //<editor-fold desc="Создать граф по матрице и обновить матрицу">
     /**
-     *      " "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Обновить таблицу"
+     * @param evt событие клика*/
     private void UpdateBtnActionPerformed(ActionEvent evt) {//GEN-FIRST:event_UpdateBtnActionPerformed
         String NameGraph = (String) graphComBox1.getSelectedItem();
         Character ch;
@@ -2594,7 +2652,7 @@ public class GraphInterface extends javax.swing.JFrame {
 
         myTable.getTableHeader().removeAll();
 
-        //<editor-fold desc="    .">
+        //<editor-fold desc="Классы настройки внешнего вида табл.">
         class MyDefaultTableModel extends DefaultTableModel{
 
             ArrayList<Boolean> canEdit = new ArrayList<>();
@@ -2660,10 +2718,10 @@ public class GraphInterface extends javax.swing.JFrame {
         }
 
         if (adjMatRadBtn.isSelected()) {
-            graphVerticesStr.add(0,"");
+            graphVerticesStr.add(0,"Вершины");
         }
         else {
-            graphVerticesStr.add(0,"/");
+            graphVerticesStr.add(0,"Реб/Вер");
         }
 
         for (int i = 0; i < graphVerticesStr.size(); i++) {
@@ -2728,13 +2786,13 @@ public class GraphInterface extends javax.swing.JFrame {
         ch = myTable.getModel().getValueAt(0, 0).toString().charAt(0);
 
         if (Character.isLetter(ch)){
-            myTable.setToolTipText("<html> .<br>    <br>  ");
+            myTable.setToolTipText("<html>Матрица инцидентности.<br>В строке не должно содержаться<br>более двух записей");
         }
         else{
-            myTable.setToolTipText("<html> .<br>    <br>   ");
+            myTable.setToolTipText("<html>Матрица смежности.<br>В диагонали матрицы не должно<br>содержаться более двух записей");
         }
 
-        //<editor-fold desc="      ">
+        //<editor-fold desc="Установка панели управления таблицей в дефолтное состояние">
         if (IncMatRadBtn.isSelected()) {
             addVertexes.setEnabled(true);
             addRibs.setEnabled(true);
@@ -2754,8 +2812,8 @@ public class GraphInterface extends javax.swing.JFrame {
     }//GEN-LAST:event_UpdateBtnActionPerformed
 
     /**
-     *      "    /"
-     * @param evt  */
+     * Обработчик события клика по кнопке "Создать граф из матрицы смежности/инцидентности"
+     * @param evt событие клика*/
     private void createBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_createBtnActionPerformed
         String NameGraph = (String) graphComBox1.getSelectedItem();
 
@@ -2764,7 +2822,7 @@ public class GraphInterface extends javax.swing.JFrame {
 
         tableDate.clear();
         if (adjMatRadBtn.isSelected()) {
-            logger.info(" tableDate  < >");
+            logger.info("Заполнение tableDate из <таблицы смежности>");
             for (int row = 0; row < model.getRowCount(); row++) {
                 tableDate.add(new ArrayList<>());
                 for (int column = 1; column < model.getColumnCount(); column++) {
@@ -2793,7 +2851,7 @@ public class GraphInterface extends javax.swing.JFrame {
             }
         }
         else if(IncMatRadBtn.isSelected()) {
-            logger.info(" tableDate  < >");
+            logger.info("Заполнение tableDate из <таблицы инцидентности>");
             for (int row = 0; row < model.getRowCount(); row++) {
                 tableDate.add(new ArrayList<>());
                 for (int column = 1; column < model.getColumnCount(); column++) {
@@ -2817,15 +2875,15 @@ public class GraphInterface extends javax.swing.JFrame {
     //</editor-fold>
 
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Как это работает"
+     * @param evt событие клика*/
     private void questionBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_questionBtnActionPerformed
         jDialog1.setVisible(true);
     }//GEN-LAST:event_questionBtnActionPerformed
 
     /**
-     *       
-     * @param evt  */
+     * Обработчик события смены графа в выпадающем списке
+     * @param evt событие клика*/
     private void graphComBox1ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_graphComBox1ActionPerformed
         Character ch = 0;
         String NameGraph = (String) graphComBox1.getSelectedItem();
@@ -2858,185 +2916,218 @@ public class GraphInterface extends javax.swing.JFrame {
         jScrollPane2.setViewportView(table);
     }//GEN-LAST:event_graphComBox1ActionPerformed
     /**
-     *      "   MFI"
-     * @param evt  */
+     * Обработчик события клика по кнопке "Создать граф из MFI"
+     * @param evt событие клика*/
     private void createMFIActionPerformed(ActionEvent evt) {//GEN-FIRST:event_createMFIActionPerformed
         String strG = jTextArea4.getText();
         String strP = jTextArea5.getText();
-        reateMFI(strG, strP);
+        сreateMFI(strG, strP);
 
     }//GEN-LAST:event_createMFIActionPerformed
 
-    protected int reateMFI(String strG, String strP) {
-        Integer[] G = new Integer[0];
-        Integer[] P = new Integer[0];
+    /**
+     * Метод создаёт граф из MFI. Списки разбираются и проверяются сразу,
+     * а граф укладывается в фоновом потоке
+     * @param strG номера соседних вершин через запятую
+     * @param strP индексы последних элементов строк через запятую
+     * @return Возвращает 1, если списки корректны и создание графа запущено, если иначе — -1*/
+    protected int сreateMFI(String strG, String strP) {
+        int[] G;
+        int[] P;
 
         if (!strG.matches("(\\d+, )(\\d+, )+\\d+")) {
             JOptionPane.showMessageDialog(this,
-                    "<html>,   <br>   <br> : 1, 2, ... , n",
-                    " ",
-                    JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8--100.png")));
+                    "<html>Извините, но введенный вами<br>список смежности не соответствует<br>требуемому формату: 1, 2, ... , n",
+                    "Ошибка ввода",
+                    JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
             return -1;
         }
         else {
             String[] strArrayG = strG.split(", ");
-            G = new Integer[strArrayG.length];
-            for (int i = 0; i < strArrayG.length; i++) {
-                G[i] = Integer.parseInt(strArrayG[i]);
+            G = new int[strArrayG.length];
+            try {
+                for (int i = 0; i < strArrayG.length; i++) {
+                    G[i] = Integer.parseInt(strArrayG[i]);
+                }
+            } catch (NumberFormatException e) {
+                showMFIError(e);
+                return -1;
             }
         }
 
         if (!strP.matches("(\\d+, )(\\d+, )+\\d+")) {
             JOptionPane.showMessageDialog(this,
-                    "<html>,   <br>   <br> : 1, 2, ... , n",
-                    " ",
-                    JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8--100.png")));
+                    "<html>Извините, но введенный вами<br>список индексов не соответствует<br>требуемому формату: 1, 2, ... , n",
+                    "Ошибка ввода",
+                    JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
             return -1;
         }
         else {
             String[] strArrayP = strP.split(", ");
-            P = new Integer[strArrayP.length];
-            for (int i = 0; i < strArrayP.length; i++) {
-                P[i] = Integer.parseInt(strArrayP[i]);
-            }
-        }
-
-        for (int i = 0; i < P.length; i++) {
-            if (P[i] > G.length){
+            P = new int[strArrayP.length];
+            try {
+                for (int i = 0; i < strArrayP.length; i++) {
+                    P[i] = Integer.parseInt(strArrayP[i]);
+                }
+            } catch (NumberFormatException e) {
+                showMFIError(e);
                 return -1;
             }
         }
 
         CreatorGraphs creator = new CreatorGraphs.Builder().G(G).P(P).build();
-
-        Graphs.put(NameGraphPos, creator.getJGraph(creator.getGraphGUAVA(CreatorGraphs.Source.FROM_MFI)));
-        mxGraph box = Graphs.get(NameGraphPos);
-        GraphsComponents.put(NameGraphPos, new mxGraphComponent(box));
-        logger.info(" JGraph, mxGraphComponent  JTable");
-
-        initSettingsGraph(Graphs.get(NameGraphPos), GraphsComponents.get(NameGraphPos));
-
-        localNameGraph = NameGraphPos;
-        graphicComBox.setSelectedItem(NameGraphPos);
-
-        GraphsComponents.get(NameGraphPos).refresh();
-        Graphs.get(NameGraphPos).refresh();
-
-        jTextArea4.setText("");
-        jTextArea5.setText("");
+        CsrGraph csr;
+        try {
+            csr = creator.getGraphCSR(CreatorGraphs.Source.FROM_MFI);
+        } catch (IllegalArgumentException e) {
+            showMFIError(e);
+            return -1;
+        }
+        runTask("Идёт создание графа, ожидайте...", ForceLayout.ITERATIONS, this, new BackgroundTask<>("Создание графа из MFI",
+                progress -> prepareGraph(creator, csr, progress))
+                .onSuccess(prepared -> {
+                    installGraph(NameGraphPos, prepared);
+                    jTextArea4.setText("");
+                    jTextArea5.setText("");
+                })
+                .onFailure(error -> {
+                    if (error instanceof IllegalArgumentException) {
+                        showMFIError(error);
+                        return;
+                    }
+                    error.printStackTrace();
+                    JOptionPane.showMessageDialog(this,
+                            "<html>Извините, но создать<br>граф из MFI не удалось!",
+                            "Ошибка создания графа",
+                            JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
+                }));
         return 1;
     }
+    /**
+     * Метод сообщает пользователю, что введённые списки не образуют корректный MFI
+     * @param error ошибка проверки MFI*/
+    private void showMFIError(Throwable error) {
+        logger.warning("Некорректный MFI: " + error.getMessage());
+        JOptionPane.showMessageDialog(this,
+                "<html>Извините, но введенные вами<br>списки не образуют корректный MFI:<br>" + error.getMessage(),
+                "Ошибка ввода",
+                JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
+    }
 
     /**
-     *      "   [ ]"
-     * @param evt  */
+     * Обработчик события клика по кнопке "Обновить данные окна [О графе]"
+     * @param evt событие клика*/
     private void RefreshBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_RefreshBtnActionPerformed
-        String name = graphComBox2.getSelectedItem().toString();
-        CreatorGraphs creator = new CreatorGraphs.Builder().graph(Graphs.get(name)).build();
-        MutableGraph<String> guavaGraph = creator.getGraphGUAVA(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW);
-        Integer maxDegree = 0;
-        Integer minDegree = 0;
-
-        HashSet<String> nodes = new HashSet();
-        nodes.addAll(guavaGraph.nodes());
-
-        for (String peak : nodes) {
-            if (guavaGraph.degree(peak) > maxDegree){
-                maxDegree = guavaGraph.degree(peak);
-                minDegree = guavaGraph.degree(peak);
-            }
-        }
-
-        for (String peak : nodes) {
-            if (guavaGraph.degree(peak) < minDegree){
-                minDegree = guavaGraph.degree(peak);
-            }
-        }
-
-        jLabel24.setText(guavaGraph.nodes().size() + "");
-        jLabel26.setText(guavaGraph.edges().size() + "");
-        jLabel28.setText(maxDegree.toString());
-        jLabel30.setText(minDegree.toString());
-
+        showGraphInfo(graphComBox2.getSelectedItem().toString());
     }//GEN-LAST:event_RefreshBtnActionPerformed
     /**
-     *       
-     * @param evt  */
+     * Обработчик события смены графа в выпадающем списке
+     * @param evt событие клика*/
     private void graphComBox2ActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_graphComBox2ActionPerformed
-        String name = graphComBox2.getSelectedItem().toString();
-        CreatorGraphs creator = new CreatorGraphs.Builder().graph(Graphs.get(name)).build();
-        MutableGraph<String> guavaGraph = creator.getGraphGUAVA(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW);
-        Integer maxDegree = 0;
-        Integer minDegree = 0;
-
-        HashSet<String> nodes = new HashSet();
-        nodes.addAll(guavaGraph.nodes());
-
-        for (String peak : nodes) {
-            if (guavaGraph.degree(peak) > maxDegree){
-                maxDegree = guavaGraph.degree(peak);
-                minDegree = guavaGraph.degree(peak);
-            }
-            if (guavaGraph.degree(peak) < minDegree){
-                minDegree = guavaGraph.degree(peak);
-            }
-        }
-
-        jLabel24.setText(guavaGraph.nodes().size() + "");
-        jLabel26.setText(guavaGraph.edges().size() + "");
-        jLabel28.setText(maxDegree.toString());
-        jLabel30.setText(minDegree.toString());
+        showGraphInfo(graphComBox2.getSelectedItem().toString());
     }//GEN-LAST:event_graphComBox2ActionPerformed
     /**
-     *      " "
-     * @param evt  */
+     * Метод выводит в окно [О графе] количество вершин и рёбер графа,
+     * а также наибольшую и наименьшую степени вершин. Данные берутся
+     * из CSR-графа, который строится заново только после изменения структуры
+     * @param name Имя графа в карте графов*/
+    private void showGraphInfo(String name) {
+        CsrGraph graph = CsrGraph.of(Graphs.get(name));
+        int maxDegree = 0;
+        int minDegree = graph.size() == 0 ? 0 : Integer.MAX_VALUE;
+        for (int v = 0; v < graph.size(); v++) {
+            maxDegree = Math.max(maxDegree, graph.degree(v));
+            minDegree = Math.min(minDegree, graph.degree(v));
+        }
+
+        jLabel24.setText(graph.size() + "");
+        jLabel26.setText(graph.edgeCount() + "");
+        jLabel28.setText(maxDegree + "");
+        jLabel30.setText(minDegree + "");
+    }
+    /**
+     * Обработчик события клика по кнопке "Сравнить графы"
+     * @param evt событие клика*/
     private void CompareBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_CompareBtnActionPerformed
-        CreatorGraphs creator;
         String nameGraph1 = graphsList1.getSelectedValue();
         String nameGraph2 = graphsList2.getSelectedValue();
-        String result = " !";
         if (graphsList1.getSelectedValue() != null && graphsList2.getSelectedValue() != null) {
 
-            creator = new CreatorGraphs.Builder().graph(Graphs.get(nameGraph1)).build();
-            MutableGraph<String> Graph1 = creator.getGraphGUAVA(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW);
-
-            creator = new CreatorGraphs.Builder().graph(Graphs.get(nameGraph2)).build();
-            MutableGraph<String> Graph2 = creator.getGraphGUAVA(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW);
-
-            if (isStronglyRegularGraph(Graph1) && isStronglyRegularGraph(Graph2)){
-                result = "!";
-            }
-            String box = "<html> [" + nameGraph1 + "]  [" + nameGraph2 + "]<br>  : " + result;
-            JOptionPane.showMessageDialog(this, box, " ", JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8---100.png")));
+            SrgParameters parameters1 = GraphsCheckers.get(nameGraph1).getParameters();
+            SrgParameters parameters2 = GraphsCheckers.get(nameGraph2).getParameters();
+            mxGraph graph1 = Graphs.get(nameGraph1);
+            mxGraph graph2 = Graphs.get(nameGraph2);
+            runTask("Идёт анализ и сравнение, ожидайте...", 0, CompareDialog, new BackgroundTask<>("Сравнение графов", progress -> {
+                if (!parameters1.isStronglyRegular()) {
+                    SrgParameters checked = Checker.getParameters(CsrGraph.of(graph1));
+                    logger.info("Граф [" + nameGraph1 + "] не сильно регулярен: " + checked + ", контрпример: " + checked.getViolation());
+                }
+                if (!parameters2.isStronglyRegular()) {
+                    SrgParameters checked = Checker.getParameters(CsrGraph.of(graph2));
+                    logger.info("Граф [" + nameGraph2 + "] не сильно регулярен: " + checked + ", контрпример: " + checked.getViolation());
+                }
+                FeasibilityFilter.DEFAULT.logRejections();
+                return Fingerprint.of(graph1).equals(Fingerprint.of(graph2))
+                        && CanonicalForm.of(graph1).getHash().equals(CanonicalForm.of(graph2).getHash());
+            })
+                    .onSuccess(equal -> {
+                        String result = equal ? "Равны!" : "Не равны!";
+                        String box = "<html>Графы [" + nameGraph1 + "] и [" + nameGraph2 + "]<br>по результату сравнения: " + result
+                                + "<br>[" + nameGraph1 + "]: " + parameters1 + "<br>[" + nameGraph2 + "]: " + parameters2;
+                        JOptionPane.showMessageDialog(this, box, "Результат сравнения", JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8-подтверждение-оплаты-100.png")));
+                    })
+                    .onFailure(error -> JOptionPane.showMessageDialog(CompareDialog, "<html>Извините, но сравнить<br>графы не удалось!", "Ошибка сравнения", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")))));
         }
         else {
-            JOptionPane.showMessageDialog(this, "<html>,   <br>   !", " ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
+            JOptionPane.showMessageDialog(this, "<html>Извините, но для сравнения<br>необходимо выбрать два графа!", "Некорректный выбор", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
         }
     }//GEN-LAST:event_CompareBtnActionPerformed
     /**
-     *      "   "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Все пары": разбивает все открытые графы
+     * на классы изоморфизма в фоновом потоке, показывая ход работы в окне процесса
+     * @param evt событие клика*/
+    private void AllPairsBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_AllPairsBtnActionPerformed
+        LinkedHashMap<String, mxGraph> graphs = new LinkedHashMap<>();
+        for (int i = 0; i < graphsList1.getModel().getSize(); i++) {
+            String name = graphsList1.getModel().getElementAt(i);
+            graphs.put(name, Graphs.get(name));
+        }
+        AllPairsBtn.setEnabled(false);
+        runTask("Идёт анализ и сравнение, ожидайте...", graphs.size(), CompareDialog, new BackgroundTask<>("Сравнение всех пар графов",
+                progress -> IsomorphismClasses.of(graphs, progress))
+                .onFinish(() -> AllPairsBtn.setEnabled(true))
+                .onSuccess(classes -> {
+                    StringBuilder box = new StringBuilder("<html>Графов: " + graphs.size() + ", классов изоморфизма: " + classes.size());
+                    for (List<String> group : classes) {
+                        box.append("<br>").append(String.join(" = ", group));
+                    }
+                    JOptionPane.showMessageDialog(CompareDialog, box.toString(), "Результат сравнения", JOptionPane.PLAIN_MESSAGE, new ImageIcon(this.getClass().getResource("/icons8-подтверждение-оплаты-100.png")));
+                })
+                .onFailure(error -> JOptionPane.showMessageDialog(CompareDialog, "<html>Извините, но сравнить<br>графы не удалось!", "Ошибка сравнения", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")))));
+    }//GEN-LAST:event_AllPairsBtnActionPerformed
+    /**
+     * Обработчик события клика по кнопке "Открыть окно сравнения графов"
+     * @param evt событие клика*/
     private void stronglyRegularlyActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_stronglyRegularlyActionPerformed
         Object[] arrObj = Graphs.get(graphicComBox.getSelectedItem()).getChildCells(Graphs.get(graphicComBox.getSelectedItem()).getDefaultParent());
         if (arrObj.length != 0) {
             CompareDialog.setVisible(true);
         }
         else {
-            JOptionPane.showMessageDialog(this, "<html>,   .<br>    !", " ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
+            JOptionPane.showMessageDialog(this, "<html>Извините, но холст пуст.<br>Добавьте хотя бы одну вершину!", "Пустой холст", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
         }
     }//GEN-LAST:event_stronglyRegularlyActionPerformed
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Завершить работу программы"
+     * @param evt событие клика*/
     private void exitBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_exitBtnActionPerformed
         System.exit(0);
     }//GEN-LAST:event_exitBtnActionPerformed
     /**
-     *      " "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Экспортировать изображения"
+     * @param evt событие клика*/
     private void expImBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_expImBtnActionPerformed
         int userSelection;
-        ImageIcon myImageGraph;
         Object nameGraph = graphicComBox.getSelectedItem();
         File imageFile = new File(nameGraph + ".png");
         JFileChooser file = new JFileChooser();
@@ -3047,42 +3138,35 @@ public class GraphInterface extends javax.swing.JFrame {
         mxGraphComponent graphComponent = GraphsComponents.get(nameGraph.toString());
 
         if (graph.getChildCells(graph.getDefaultParent()).length != 0) {
-            myImageGraph = transHandler.createTransferableImage(graphComponent, graph.getChildCells(graph.getDefaultParent()));
-            BufferedImage bimage = new BufferedImage(
-                myImageGraph.getImage().getWidth(null) + 50,
-                myImageGraph.getImage().getHeight(null) + 50,
-                BufferedImage.TYPE_INT_ARGB
-            );
-
-            Graphics2D bGr = bimage.createGraphics();
-            bGr.drawImage(myImageGraph.getImage(), 0, 0, null);
-            bGr.dispose();
-
             userSelection = file.showSaveDialog(this);
 
             if (userSelection == JFileChooser.APPROVE_OPTION) {
-                imageFile = file.getSelectedFile();
-                try {
-                    ImageIO.write(bimage, "PNG", imageFile);
-                } catch (IOException e) {
-                    e.printStackTrace();
-                }
+                File selectedFile = file.getSelectedFile();
+                ImageIcon myImageGraph = transHandler.createTransferableImage(graphComponent, graph.getChildCells(graph.getDefaultParent()));
+                BufferedImage bimage = new BufferedImage(
+                    myImageGraph.getImage().getWidth(null) + 50,
+                    myImageGraph.getImage().getHeight(null) + 50,
+                    BufferedImage.TYPE_INT_ARGB
+                );
+
+                Graphics2D bGr = bimage.createGraphics();
+                bGr.drawImage(myImageGraph.getImage(), 0, 0, null);
+                bGr.dispose();
+
+                runTask("Идёт экспорт изображения, ожидайте...", 0, this, new BackgroundTask<>("Экспорт изображения " + selectedFile.getName(),
+                        progress -> ImageIO.write(bimage, "PNG", selectedFile))
+                        .onFailure(Throwable::printStackTrace));
             }
         }
         else {
-            JOptionPane.showMessageDialog(this, "<html>,   .<br>    !", " ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
+            JOptionPane.showMessageDialog(this, "<html>Извините, но холст пуст.<br>Добавьте хотя бы одну вершину!", "Пустой холст", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
         }
     }//GEN-LAST:event_expImBtnActionPerformed
     /**
-     *      " ..."
-     * @param evt  */
+     * Обработчик события клика по кнопке "Сохранить как..."
+     * @param evt событие клика*/
     private void saveAsBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_saveAsBtnActionPerformed
         Object Name = graphicComBox.getSelectedItem();
-        CreatorGraphs creator = new CreatorGraphs.Builder().graph(Graphs.get(Name.toString())).build();
-
-        MutableGraphAdapter<String> jgrapht = new MutableGraphAdapter<>(creator.getGraphGUAVA(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW));
-
-        DOTExporter exporter = new DOTExporter();
 
         JFileChooser file = new JFileChooser();
         File defaultFile = new File(Name + ".txt");
@@ -3093,116 +3177,107 @@ public class GraphInterface extends javax.swing.JFrame {
 
             if (userSelection == JFileChooser.APPROVE_OPTION) {
                 defaultFile = file.getSelectedFile();
-                exporter.exportGraph(jgrapht, defaultFile);
+                saveGraph(Graphs.get(Name.toString()), defaultFile);
             }
         }
         else {
-            JOptionPane.showMessageDialog(this, "<html>,   .<br>    !", " ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
+            JOptionPane.showMessageDialog(this, "<html>Извините, но холст пуст.<br>Добавьте хотя бы одну вершину!", "Пустой холст", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
         }
     }//GEN-LAST:event_saveAsBtnActionPerformed
     /**
-     *      "..."
-     * @param evt  */
+     * Обработчик события клика по кнопке "Сохранить..."
+     * @param evt событие клика*/
     private void saveBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_saveBtnActionPerformed
         Object Name = graphicComBox.getSelectedItem();
 
-        File myFile = new File("C:\\Users\\david\\OneDrive\\\\graph_" + Name + "_end.txt");
-
-        CreatorGraphs creator = new CreatorGraphs.Builder().graph(Graphs.get(Name.toString())).build();
-        MutableGraphAdapter<String> jgrapht = new MutableGraphAdapter<>(creator.getGraphGUAVA(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW));
-        DOTExporter exporter = new DOTExporter();
+        File myFile = new File("C:\\Users\\david\\OneDrive\\Документы\\graph_" + Name + "_end.txt");
 
         if (Graphs.get(Name.toString()).getChildCells(Graphs.get(Name.toString()).getDefaultParent()).length != 0) {
-            exporter.exportGraph(jgrapht, myFile);
+            saveGraph(Graphs.get(Name.toString()), myFile);
         }
         else {
-            JOptionPane.showMessageDialog(this, "<html>,   .<br>    !", " ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
+            JOptionPane.showMessageDialog(this, "<html>Извините, но холст пуст.<br>Добавьте хотя бы одну вершину!", "Пустой холст", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
         }
     }//GEN-LAST:event_saveBtnActionPerformed
     /**
-     *      "..."
-     * @param evt  */
+     * Метод сохраняет граф в файл DOT, а координаты вершин — в файл укладки рядом с ним.
+     * Граф берётся из CSR-графа, который строится заново только после изменения структуры
+     * @param graph Объект графа
+     * @param myFile файл для сохранения*/
+    private void saveGraph(mxGraph graph, File myFile) {
+        try (Writer writer = Files.newBufferedWriter(myFile.toPath(), StandardCharsets.UTF_8)) {
+            CreatorGraphs.writeDot(CsrGraph.of(graph), writer);
+        } catch (IOException e) {
+            e.printStackTrace();
+            return;
+        }
+        try {
+            LayoutCache.save(myFile.toPath(), graph);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+    /**
+     * Обработчик события клика по кнопке "Открыть..."
+     * @param evt событие клика*/
     private void openBtnActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_openBtnActionPerformed
         Object Name = graphicComBox.getSelectedItem();
         JFileChooser file = new JFileChooser();
-        Graph<String, String> jgrapht = new SimpleGraph(SupplierUtil.createStringSupplier(1), SupplierUtil.createStringSupplier(1), false);
 
         int userSelection = file.showOpenDialog(this);
-        DOTImporter importer = new DOTImporter();
 
         if (userSelection == JFileChooser.APPROVE_OPTION) {
             File fileToOpen = file.getSelectedFile();
             if (Graphs.get(Name.toString()).getChildCells(Graphs.get(Name.toString()).getDefaultParent()).length == 0){
-
-                try {
-                    importer.importGraph(jgrapht, fileToOpen);
-
-                    JGraphXAdapter adapter = new JGraphXAdapter(jgrapht);
-                    mxGraph graph = new mxGraph(adapter.getModel());
-
-                    CreatorGraphs creator = new CreatorGraphs.Builder().graph(graph).build();
-
-                    NameGraphPos = Name.toString();
-                    Graphs.put(NameGraphPos, creator.getJGraph(creator.getGraphGUAVA(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW)));
-                    mxGraph box = Graphs.get(NameGraphPos);
-                    GraphsComponents.put(NameGraphPos, new mxGraphComponent(box));
-                    logger.info(" JGraph, mxGraphComponent  JTable");
-
-                    initSettingsGraph(Graphs.get(NameGraphPos), GraphsComponents.get(NameGraphPos));
-
-                    localNameGraph = NameGraphPos;
-                    graphicComBox.setSelectedItem(NameGraphPos);
-
-                    GraphsComponents.get(NameGraphPos).refresh();
-                    Graphs.get(NameGraphPos).refresh();
-                } catch (Exception e) {
-                    e.printStackTrace();
-                    JOptionPane.showMessageDialog(this, "<html>...      <br>     .<br>      !", "  ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
-                }
+                openGraph(Name.toString(), fileToOpen);
             }
             else{
-                Integer choice = JOptionPane.showConfirmDialog(this, "<html>,    .<br>     <br> ,     .<br> ,   ?", " ", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
+                Integer choice = JOptionPane.showConfirmDialog(this, "<html>Извините, но холст уже заполнен.<br>Добавление нового графа на этот холст<br>удалит тот, что находиться на нем сейчас.<br>Вы уверены, что хотите этого?", "Замена графа", JOptionPane.YES_NO_OPTION, JOptionPane.QUESTION_MESSAGE);
                 if (choice == JOptionPane.YES_OPTION){
-                    try {
-                        importer.importGraph(jgrapht, fileToOpen);
-
-                        JGraphXAdapter adapter = new JGraphXAdapter(jgrapht);
-                        mxGraph graph = new mxGraph(adapter.getModel());
-
-                        CreatorGraphs creator = new CreatorGraphs.Builder().graph(graph).build();
-
-                        NameGraphPos = Name.toString();
-                        Graphs.put(NameGraphPos, creator.getJGraph(creator.getGraphGUAVA(CreatorGraphs.Source.FROM_GRAPHICAL_VIEW)));
-                        mxGraph box = Graphs.get(NameGraphPos);
-                        GraphsComponents.put(NameGraphPos, new mxGraphComponent(box));
-                        logger.info(" JGraph, mxGraphComponent  JTable");
-
-                        initSettingsGraph(Graphs.get(NameGraphPos), GraphsComponents.get(NameGraphPos));
-
-                        localNameGraph = NameGraphPos;
-                        graphicComBox.setSelectedItem(NameGraphPos);
-
-                        GraphsComponents.get(NameGraphPos).refresh();
-                        Graphs.get(NameGraphPos).refresh();
-                    } catch (Exception e) {
-                        e.printStackTrace();
-                        JOptionPane.showMessageDialog(this, "<html>...      <br>     .<br>      !", "  ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
-                    }
+                    openGraph(Name.toString(), fileToOpen);
                 }
             }
         }
     }//GEN-LAST:event_openBtnActionPerformed
+    /**
+     * Метод открывает граф из файла DOT на холсте: файл разбирается один раз
+     * в CSR-граф, по которому один раз строится JGraph-граф. Координаты вершин
+     * берутся из файла укладки, заново укладываются только изменившиеся вершины.
+     * Разбор и расстановка вершин выполняются в фоновом потоке
+     * @param name имя графа
+     * @param fileToOpen файл DOT*/
+    private void openGraph(String name, File fileToOpen){
+        runTask("Идёт открытие файла, ожидайте...", ForceLayout.ITERATIONS, this, new BackgroundTask<>("Открытие " + fileToOpen.getName(), progress -> {
+            try (Reader reader = Files.newBufferedReader(fileToOpen.toPath(), StandardCharsets.UTF_8)) {
+                CreatorGraphs creator = new CreatorGraphs.Builder().dot(reader).build();
+                CsrGraph csr = creator.getGraphCSR(CreatorGraphs.Source.FROM_DOT);
+                double[][] position = new double[2][csr.size()];
+                int[] missing = LayoutCache.load(fileToOpen.toPath(), csr, position);
+                mxGraph graph = creator.getJGraph(csr);
+                ForceLayout.restore(graph, position, missing, progress);
+                return new PreparedGraph(graph, new IncrementalChecker(graph));
+            }
+        })
+                .onSuccess(prepared -> {
+                    NameGraphPos = name;
+                    installGraph(NameGraphPos, prepared);
+                })
+                .onFailure(error -> {
+                    error.printStackTrace();
+                    JOptionPane.showMessageDialog(this, "<html>Упссс... Похоже этот файл не содержит данные<br>о графе или данные представлены некорректно.<br>Пожалуйста выберите другой файл или отредактируйте этот!", "Не корректный файл", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
+                }));
+    }
 
     //</editor-fold>
 
-    //<editor-fold desc="      ">
+    //<editor-fold desc="Создание нового графа и переключение между графами">
     /**
-     *      "  "
-     * @param evt  */
+     * Обработчик события клика по кнопке "Создать новый граф"
+     * @param evt событие клика*/
     private void newGraphActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_newGraphActionPerformed
         Object newNameGraph = "";
         try {
-            newNameGraph = JOptionPane.showInputDialog(this, "  ", "  ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/-100.png")), null, "  8 ");
+            newNameGraph = JOptionPane.showInputDialog(this, "Введите имя графа", "Создание нового графа", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/график-100.png")), null, "Не более 8 символов");
         } catch (Exception e) {
             e.printStackTrace();
         }
@@ -3225,13 +3300,14 @@ public class GraphInterface extends javax.swing.JFrame {
                 jCheckBox1.setEnabled(false);
             }
             if (Graphs.containsKey(newNameGraph)) {
-                JOptionPane.showMessageDialog(this, "<html>,    <br>  !", " ", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8--100.png")));
+                JOptionPane.showMessageDialog(this, "<html>Извините, но граф с таким<br>именем уже существует!", "Обнаружены дубликаты", JOptionPane.PLAIN_MESSAGE, new javax.swing.ImageIcon(this.getClass().getResource("/icons8-ошибка-100.png")));
             }
             else {
                 NameGraphPos = newNameGraph.toString();
                 Graphs.put(NameGraphPos, new mxGraph());
                 mxGraph box = Graphs.get(NameGraphPos);
-                GraphsComponents.put(NameGraphPos, new mxGraphComponent(box));
+                GraphsComponents.put(NameGraphPos, new LevelOfDetailComponent(box));
+                putChecker(NameGraphPos, new IncrementalChecker(box));
                 GraphsTables.put(NameGraphPos, initTable(new JTable(), NameGraphPos));
 
                 initSettingsGraph(Graphs.get(NameGraphPos), GraphsComponents.get(NameGraphPos));
@@ -3263,11 +3339,11 @@ public class GraphInterface extends javax.swing.JFrame {
                 Graphs.get(NameGraphPos).refresh();
             }
         }
-        logger.info("\n  \n");
+        logger.info("\nСоздание нового графа\n");
     }//GEN-LAST:event_newGraphActionPerformed
     /**
-     *       
-     * @param evt  */
+     * Обработчик события смены графа в выпадающем списке
+     * @param evt событие клика*/
     private void graphicComBoxActionPerformed(java.awt.event.ActionEvent evt) {//GEN-FIRST:event_graphicComBoxActionPerformed
         JComboBox graphComBox = null;
         Color Black = new Color(58, 58, 58);
@@ -3309,7 +3385,7 @@ public class GraphInterface extends javax.swing.JFrame {
 
     //</editor-fold>
 
-    //<editor-fold desc=" ">
+    //<editor-fold desc="Демонстрационные методы">
     public File open(File graphFile){
         return new File(graphFile.getName());
     }
@@ -3323,7 +3399,7 @@ public class GraphInterface extends javax.swing.JFrame {
     }
 
     public Boolean compareGraphs(MutableGraph<String> graph1, MutableGraph<String> graph2){
-        return true;
+        return IsomorphismChecker.areIsomorphic(graph1, graph2);
     }
 
     public Boolean save(MutableGraph<String> graph){
@@ -3367,8 +3443,9 @@ public class GraphInterface extends javax.swing.JFrame {
         });
     }
 
-    //<editor-fold desc="   ">
+    //<editor-fold desc="Блок декларирования используемых компонентов">
     // Variables declaration - do not modify//GEN-BEGIN:variables
+    private javax.swing.JButton AllPairsBtn;
     private javax.swing.JButton CompareBtn;
     private javax.swing.JDialog CompareDialog;
     private javax.swing.JMenu HelpMenu;
@@ -3388,6 +3465,7 @@ public class GraphInterface extends javax.swing.JFrame {
     private javax.swing.JToggleButton brightnessBtn;
     private javax.swing.ButtonGroup buttonGroup1;
     private javax.swing.ButtonGroup buttonGroup2;
+    private javax.swing.JButton cancelTaskBtn;
     private javax.swing.JButton chooseColorPeaks;
     private javax.swing.JButton chooseColorRibs;
     private javax.swing.JButton clearGraphBtn;
@@ -3499,7 +3577,7 @@ public class GraphInterface extends javax.swing.JFrame {
     private javax.swing.JLabel selectedColorPeaks;
     private javax.swing.JLabel selectedColorRibs;
     private javax.swing.JToggleButton setAnchorPointBtn;
-    private javax.swing.JButton standardolorBtn;
+    private javax.swing.JButton standardСolorBtn;
     private javax.swing.JButton stretchButton1;
     private javax.swing.JButton stretchButton2;
     private javax.swing.JButton stretchButton3;
@@ -0,0 +1,308 @@
+package graph.my_interface;
+
+import com.mxgraph.canvas.mxICanvas;
+import com.mxgraph.model.mxIGraphModel;
+import com.mxgraph.swing.mxGraphComponent;
+import com.mxgraph.util.mxConstants;
+import com.mxgraph.util.mxPoint;
+import com.mxgraph.util.mxUtils;
+import com.mxgraph.view.mxCellState;
+import com.mxgraph.view.mxGraph;
+import com.mxgraph.view.mxGraphView;
+import graph.algorithm.SpatialIndex;
+import org.jetbrains.annotations.NotNull;
+
+import java.awt.*;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.logging.Logger;
+
+/**
+ * Класс компонента графа с уровнями детализации. Уровень выбирается перед каждой
+ * перерисовкой по масштабу и оценке количества видимых ячеек: при крупном масштабе
+ * граф рисуется полностью, при среднем — без надписей, при мелком вершины рисуются
+ * точками, рёбра — отрезками без сглаживания, а если видимых рёбер слишком много,
+ * рисуется только их равномерная выборка. Выгрузка в изображение и обработка
+ * действий пользователя от уровня не зависят.
+ * Ячейки в области перерисовки, ячейка под курсором и ячейки в прямоугольнике выделения
+ * ищутся по пространственному индексу {@link SpatialIndex}, а не перебором всех ячеек*/
+public class LevelOfDetailComponent extends mxGraphComponent {
+
+    /**
+     * Уровень детализации*/
+    public enum Level {
+        FULL,
+        NO_LABELS,
+        POINTS
+    }
+
+    private static final long serialVersionUID = 1L;
+    private static final Logger logger = Logger.getLogger(LevelOfDetailComponent.class.getName());
+    private static final double LABELS_SCALE = 0.7;
+    private static final double POINTS_SCALE = 0.35;
+    private static final int LABELS_CELLS = 2_000;
+    private static final int POINTS_CELLS = 8_000;
+    private static final int EDGE_BUDGET = 5_000;
+    private static final int CLIP_PADDING = 16;
+
+    private final SpatialIndex index;
+    private Level level = Level.FULL;
+
+    /**
+     * Создаёт компонент графа с уровнями детализации
+     * @param graph JGraph-граф*/
+    public LevelOfDetailComponent(@NotNull mxGraph graph) {
+        super(graph);
+        index = new SpatialIndex(graph);
+    }
+
+    /**
+     * Метод возвращает уровень детализации последней перерисовки
+     * @return Возвращает уровень детализации*/
+    public Level getLevel() {
+        return level;
+    }
+
+    @Override
+    protected mxGraphControl createGraphControl() {
+        return new LevelOfDetailControl();
+    }
+
+    @Override
+    public Object getCellAt(int x, int y, boolean hitSwimlanes, Object parent) {
+        if (!isIndexed(parent)) {
+            return super.getCellAt(x, y, hitSwimlanes, parent);
+        }
+        mxPoint previousTranslate = canvas.getTranslate();
+        double previousScale = canvas.getScale();
+        try {
+            canvas.setScale(graph.getView().getScale());
+            canvas.setTranslate(0, 0);
+            Rectangle hit = new Rectangle(x, y, 1, 1);
+            List<Object> cells = query(hit, getTolerance() + 1);
+            for (int i = cells.size() - 1; i >= 0; i--) {
+                Object cell = cells.get(i);
+                mxCellState state = graph.getView().getState(cell);
+                if (state != null && graph.isCellVisible(cell) && canvas.intersects(this, hit, state)
+                        && (hitSwimlanes || !graph.isSwimlane(cell))) {
+                    return cell;
+                }
+            }
+            return null;
+        } finally {
+            canvas.setScale(previousScale);
+            canvas.setTranslate(previousTranslate.getX(), previousTranslate.getY());
+        }
+    }
+
+    @Override
+    public Object[] getCells(Rectangle rect, Object parent) {
+        if (!isIndexed(parent)) {
+            return super.getCells(rect, parent);
+        }
+        mxPoint previousTranslate = canvas.getTranslate();
+        double previousScale = canvas.getScale();
+        try {
+            canvas.setScale(graph.getView().getScale());
+            canvas.setTranslate(0, 0);
+            ArrayList<Object> result = new ArrayList<>();
+            for (Object cell : query(rect, 0)) {
+                mxCellState state = graph.getView().getState(cell);
+                if (state != null && graph.isCellVisible(cell) && canvas.contains(this, rect, state)) {
+                    result.add(cell);
+                }
+            }
+            return result.toArray();
+        } finally {
+            canvas.setScale(previousScale);
+            canvas.setTranslate(previousTranslate.getX(), previousTranslate.getY());
+        }
+    }
+
+    /**
+     * Метод проверяет, можно ли искать потомков ячейки по индексу: индекс хранит
+     * ячейки единственного слоя, когда вид показывает весь граф
+     * @param parent ячейка, среди потомков которой идёт поиск, или null
+     * @return Возвращает true, если поиск можно вести по индексу, если иначе — false*/
+    private boolean isIndexed(Object parent) {
+        mxIGraphModel model = graph.getModel();
+        if (graph.getCurrentRoot() != null) {
+            return false;
+        }
+        return parent == graph.getDefaultParent()
+                || ((parent == null || parent == model.getRoot()) && model.getChildCount(model.getRoot()) == 1);
+    }
+
+    /**
+     * Метод ищет по индексу ячейки, границы которых пересекают прямоугольник на холсте
+     * @param rect прямоугольник в координатах холста или null, если нужен весь холст
+     * @param padding расширение прямоугольника в пикселях холста
+     * @return Возвращает ячейки в порядке рисования*/
+    private List<Object> query(Rectangle rect, double padding) {
+        if (rect == null) {
+            return index.query(Double.NEGATIVE_INFINITY, Double.NEGATIVE_INFINITY,
+                    Double.POSITIVE_INFINITY, Double.POSITIVE_INFINITY);
+        }
+        mxGraphView view = graph.getView();
+        double scale = view.getScale();
+        mxPoint translate = view.getTranslate();
+        return index.query((rect.getMinX() - padding) / scale - translate.getX(),
+                (rect.getMinY() - padding) / scale - translate.getY(),
+                (rect.getMaxX() + padding) / scale - translate.getX(),
+                (rect.getMaxY() + padding) / scale - translate.getY());
+    }
+
+    /**
+     * Метод выбирает уровень детализации по масштабу и количеству ячеек,
+     * попадающих в область перерисовки
+     * @param visible количество ячеек в области перерисовки
+     * @return Возвращает уровень детализации*/
+    private Level chooseLevel(int visible) {
+        double scale = graph.getView().getScale();
+        if (scale < POINTS_SCALE || visible > POINTS_CELLS) {
+            return Level.POINTS;
+        }
+        if (scale < LABELS_SCALE || visible > LABELS_CELLS) {
+            return Level.NO_LABELS;
+        }
+        return Level.FULL;
+    }
+
+    /**
+     * Метод находит видимые ячейки, границы которых пересекают область перерисовки
+     * @param clip область перерисовки или null, если перерисовывается весь холст
+     * @return Возвращает ячейки в порядке рисования*/
+    private List<Object> visibleCells(Rectangle clip) {
+        mxIGraphModel model = graph.getModel();
+        mxGraphView view = graph.getView();
+        ArrayList<Object> visible = new ArrayList<>();
+        for (Object cell : query(clip, CLIP_PADDING)) {
+            if (isDrawn(model, view.getState(cell), clip)) {
+                visible.add(cell);
+            }
+        }
+        return visible;
+    }
+
+    /**
+     * Метод проверяет, нужно ли рисовать ячейку в области перерисовки.
+     * Границы ячейки включают надпись и расширяются на пиксель, чтобы не отбросить горизонтальные
+     * и вертикальные рёбра с нулевой шириной или высотой
+     * @param model модель графа
+     * @param state состояние ячейки
+     * @param clip область перерисовки или null
+     * @return Возвращает true, если ячейку нужно рисовать, если иначе — false*/
+    private static boolean isDrawn(mxIGraphModel model, mxCellState state, Rectangle clip) {
+        if (state == null || !model.isVisible(state.getCell())) {
+            return false;
+        }
+        if (clip == null) {
+            return true;
+        }
+        Rectangle bounds = state.getRectangle();
+        if (state.getLabelBounds() != null) {
+            bounds.add(state.getLabelBounds().getRectangle());
+        }
+        bounds.grow(1, 1);
+        return clip.intersects(bounds);
+    }
+
+    /**
+     * Класс холста компонента, рисующий граф на выбранном уровне детализации*/
+    private class LevelOfDetailControl extends mxGraphControl {
+
+        private static final long serialVersionUID = 1L;
+
+        private List<Object> visible;
+
+        @Override
+        public void drawGraph(Graphics2D g, boolean drawLabels) {
+            visible = visibleCells(g.getClipBounds());
+            Level chosen = chooseLevel(visible.size());
+            if (chosen != level) {
+                logger.info("Уровень детализации графа: " + level + " -> " + chosen);
+                level = chosen;
+            }
+            try {
+                switch (chosen) {
+                    case FULL:
+                        super.drawGraph(g, drawLabels);
+                        break;
+                    case NO_LABELS:
+                        Object antialiasing = g.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+                        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+                        super.drawGraph(g, false);
+                        g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+                        break;
+                    case POINTS:
+                        drawPoints(g, visible);
+                        break;
+                }
+            } finally {
+                visible = null;
+            }
+        }
+
+        /**
+         * Метод рисует ячейку. Вместо всех ячеек слоя рисуются только ячейки,
+         * найденные по индексу в области перерисовки. Если рёбра рисуются
+         * отдельно от вершин, слой рисуется без индекса
+         * @param canvas холст
+         * @param cell ячейка*/
+        @Override
+        public void drawCell(mxICanvas canvas, Object cell) {
+            if (visible != null && cell == graph.getDefaultParent()
+                    && !graph.isKeepEdgesInBackground() && !graph.isKeepEdgesInForeground()) {
+                for (Object child : visible) {
+                    super.drawCell(canvas, child);
+                }
+                return;
+            }
+            super.drawCell(canvas, cell);
+        }
+
+        /**
+         * Метод рисует граф на мелком уровне детализации: сначала рёбра отрезками
+         * между концами, затем вершины квадратами в цвет заливки. Если видимых рёбер
+         * больше {@link #EDGE_BUDGET}, рисуется каждое k-е ребро по порядку в модели,
+         * поэтому при прокрутке выборка не меняется
+         * @param g графический контекст
+         * @param cells ячейки в области перерисовки в порядке рисования*/
+        private void drawPoints(Graphics2D g, List<Object> cells) {
+            mxIGraphModel model = graph.getModel();
+            mxGraphView view = graph.getView();
+            int visibleEdges = 0;
+            for (Object cell : cells) {
+                if (model.isEdge(cell)) {
+                    visibleEdges++;
+                }
+            }
+
+            Object antialiasing = g.getRenderingHint(RenderingHints.KEY_ANTIALIASING);
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, RenderingHints.VALUE_ANTIALIAS_OFF);
+            int stride = Math.max(1, (visibleEdges + EDGE_BUDGET - 1) / EDGE_BUDGET);
+            int edge = 0;
+            for (Object cell : cells) {
+                if (!model.isEdge(cell) || edge++ % stride != 0) {
+                    continue;
+                }
+                mxCellState state = view.getState(cell);
+                if (state.getAbsolutePointCount() >= 2) {
+                    mxPoint source = state.getAbsolutePoint(0);
+                    mxPoint target = state.getAbsolutePoint(state.getAbsolutePointCount() - 1);
+                    g.setColor(mxUtils.getColor(state.getStyle(), mxConstants.STYLE_STROKECOLOR, Color.BLACK));
+                    g.drawLine((int) source.getX(), (int) source.getY(), (int) target.getX(), (int) target.getY());
+                }
+            }
+            for (Object cell : cells) {
+                if (model.isVertex(cell)) {
+                    mxCellState state = view.getState(cell);
+                    int size = (int) Math.max(2, Math.min(state.getWidth(), state.getHeight()));
+                    g.setColor(mxUtils.getColor(state.getStyle(), mxConstants.STYLE_FILLCOLOR, Color.RED));
+                    g.fillRect((int) (state.getCenterX() - size / 2.0), (int) (state.getCenterY() - size / 2.0), size, size);
+                }
+            }
+            g.setRenderingHint(RenderingHints.KEY_ANTIALIASING, antialiasing);
+        }
+    }
+}